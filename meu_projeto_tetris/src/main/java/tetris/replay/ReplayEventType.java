@@ -1,9 +0,0 @@
-package tetris.replay;
-
-public enum ReplayEventType {
-    MOVE_LEFT,
-    MOVE_RIGHT,
-    MOVE_DOWN,
-    ROTATE,
-    HARD_DROP
-}
\ No newline at end of file
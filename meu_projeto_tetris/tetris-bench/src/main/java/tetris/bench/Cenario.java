@@ -0,0 +1,58 @@
+package tetris.bench;
+
+import tetris.FormaPeca;
+import tetris.Posicao;
+import tetris.Tabuleiro;
+import tetris.Tetromino;
+import tetris.TipoTetromino;
+
+/**
+ * Tabuleiros de referência usados pelos benchmarks. Cada cenário empilha
+ * peças O nas colunas 0..7 até a altura indicada, deixando um poço de duas
+ * colunas à direita: uma O solta no poço completa (e remove) duas linhas.
+ * A construção é determinística, então todas as execuções medem o mesmo estado.
+ */
+public enum Cenario {
+    VAZIO(0),
+    MEIO(10),
+    QUASE_CHEIO(18);
+
+    // Coluna onde começa o poço deixado à direita da pilha
+    static final int COLUNA_POCO = Tabuleiro.LARGURA - 2;
+
+    private final int linhasOcupadas;
+
+    Cenario(int linhasOcupadas) {
+        this.linhasOcupadas = linhasOcupadas;
+    }
+
+    public int getLinhasOcupadas() {
+        return linhasOcupadas;
+    }
+
+    public Tabuleiro criarTabuleiro() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+        for (int camada = 0; camada < linhasOcupadas / 2; camada++) {
+            for (int coluna = 0; coluna < COLUNA_POCO; coluna += 2) {
+                tabuleiro.fixarTetromino(soltarO(tabuleiro, coluna));
+            }
+        }
+        // Nenhuma linha fica completa; apenas zera a faixa tocada pela montagem
+        tabuleiro.eliminarLinhasCompletas();
+        return tabuleiro;
+    }
+
+    /**
+     * Peça O já pousada no fundo do poço (pronta para fixarTetromino).
+     */
+    public static Tetromino pecaNoPoco(Tabuleiro tabuleiro) {
+        return soltarO(tabuleiro, COLUNA_POCO);
+    }
+
+    private static Tetromino soltarO(Tabuleiro tabuleiro, int coluna) {
+        FormaPeca forma = TipoTetromino.O.getFormaPrecalculada(0);
+        Tetromino peca = new Tetromino(TipoTetromino.O, new Posicao(coluna - forma.getMinX(), -forma.getMinY()));
+        peca.mover(0, tabuleiro.distanciaQueda(forma, peca.getX(), peca.getY()));
+        return peca;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package tetris.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa todos os benchmarks do pacote com o profiler de GC ligado, para
+ * que o relatório traga ns/op e também bytes alocados por operação
+ * (gc.alloc.rate.norm). Um filtro opcional (regex) pode ser passado como
+ * argumento, por exemplo: TabuleiroBenchmark.fixar
+ *
+ * O jar gerado (target/benchmarks.jar) também aceita as opções do JMH
+ * diretamente, ex.: java -jar target/benchmarks.jar -prof gc Partida
+ */
+public class ExecutarBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+        String filtro = args.length > 0 ? args[0] : "tetris\\.bench\\..*";
+        Options opcoes = new OptionsBuilder()
+                .include(filtro)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opcoes).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package tetris.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tetris.Jogador;
+import tetris.Partida;
+import tetris.sim.Jogada;
+import tetris.sim.PoliticaAleatoria;
+import tetris.sim.PoliticaEntrada;
+import tetris.sim.PoliticaGulosa;
+import tetris.sim.SimuladorLote;
+
+/**
+ * Partidas completas e determinísticas (semente fixa), sem espera de relógio,
+ * jogadas pelas políticas do simulador (tetris.sim): mede o motor inteiro de
+ * ponta a ponta. O limite de peças mantém o tempo por operação previsível.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class JogoCompletoBenchmark {
+
+    private static final int LIMITE_PECAS = 500;
+
+    @Param({"42", "1234", "987654321"})
+    public long semente;
+
+    @Param({"aleatoria", "gulosa"})
+    public String politica;
+
+    private Partida partida;
+    private PoliticaEntrada jogador;
+    private final Jogada jogada = new Jogada();
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        partida = new Partida("bench", new Jogador("bench"), semente);
+        jogador = politica.equals("gulosa") ? new PoliticaGulosa() : new PoliticaAleatoria();
+    }
+
+    @Benchmark
+    public int jogoCompleto() {
+        partida.reiniciar(semente);
+        jogador.iniciarPartida(semente);
+        SimuladorLote.jogarPartida(partida, jogador, jogada, LIMITE_PECAS);
+        return partida.getPontuacao();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package tetris.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tetris.Jogador;
+import tetris.Partida;
+import tetris.Tabuleiro;
+
+/**
+ * Comandos da Partida (incluindo o custo dos métodos synchronized) sobre os
+ * mesmos cenários do TabuleiroBenchmark. Sempre que uma peça é fixada o
+ * tabuleiro volta ao cenário, para que a altura da pilha não varie ao longo
+ * da medição; em game over a partida é reiniciada com a mesma semente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PartidaBenchmark {
+
+    private static final long SEMENTE = 42L;
+
+    @Param({"VAZIO", "MEIO", "QUASE_CHEIO"})
+    public Cenario cenario;
+
+    private Tabuleiro base;
+    private Partida partida;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        base = cenario.criarTabuleiro();
+        partida = new Partida("bench", new Jogador("bench"), SEMENTE);
+        recomecar();
+    }
+
+    private void recomecar() {
+        partida.reiniciar(SEMENTE);
+        partida.getTabuleiro().copiarDe(base);
+    }
+
+    // Esquerda + direita: a peça volta ao lugar e o estado não deriva
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public boolean moverTetromino() {
+        boolean esquerda = partida.moverTetromino(-1, 0);
+        boolean direita = partida.moverTetromino(1, 0);
+        return esquerda & direita;
+    }
+
+    @Benchmark
+    public boolean rotacionarTetromino() {
+        return partida.rotacionarTetromino();
+    }
+
+    @Benchmark
+    public boolean processarQueda() {
+        boolean caiu = partida.processarQueda();
+        if (!caiu) {
+            if (partida.isGameOver()) {
+                recomecar();
+            } else {
+                partida.getTabuleiro().copiarDe(base);
+            }
+        }
+        return caiu;
+    }
+}
\ No newline at end of file
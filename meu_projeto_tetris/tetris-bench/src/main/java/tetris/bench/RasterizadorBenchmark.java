@@ -0,0 +1,84 @@
+package tetris.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tetris.Jogador;
+import tetris.Partida;
+import tetris.QuadroJogo;
+import tetris.Tabuleiro;
+import tetris.render.RasterizadorQuadro;
+
+/**
+ * Custo de um quadro inteiro no renderizador por PixelBuffer (a parte que
+ * roda fora da thread do JavaFX), sem tela: captura do QuadroJogo e
+ * rasterização para int[] nos mesmos cenários do TabuleiroBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RasterizadorBenchmark {
+
+    private static final long SEMENTE = 42L;
+
+    @Param({"VAZIO", "MEIO", "QUASE_CHEIO"})
+    public Cenario cenario;
+
+    @Param({"30"})
+    public int tamanhoBloco;
+
+    private Partida partida;
+    private final QuadroJogo quadro = new QuadroJogo();
+    private RasterizadorQuadro rasterizador;
+    private int[] pixels;
+    private long versao = 0;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        partida = new Partida("bench", new Jogador("bench"), SEMENTE);
+        partida.reiniciar(SEMENTE);
+        partida.getTabuleiro().copiarDe(cenario.criarTabuleiro());
+        partida.capturarQuadro(quadro, ++versao, false, 0);
+        rasterizador = new RasterizadorQuadro(tamanhoBloco, paletaCinza());
+        pixels = new int[rasterizador.getLargura() * rasterizador.getAltura()];
+    }
+
+    // Tons de cinza opacos: o custo da rasterização não depende das cores
+    private static int[] paletaCinza() {
+        int[] paleta = new int[Tabuleiro.TOTAL_CORES];
+        for (int i = 1; i < paleta.length; i++) {
+            int tom = 255 * i / (paleta.length - 1);
+            paleta[i] = 0xFF000000 | (tom << 16) | (tom << 8) | tom;
+        }
+        return paleta;
+    }
+
+    @Benchmark
+    public int[] rasterizar() {
+        rasterizador.rasterizar(quadro, pixels);
+        return pixels;
+    }
+
+    // O que a thread do jogo + o trabalhador fazem por versão publicada
+    @Benchmark
+    public int[] capturarERasterizar() {
+        partida.capturarQuadro(quadro, ++versao, false, 0);
+        rasterizador.rasterizar(quadro, pixels);
+        return pixels;
+    }
+}
@@ -0,0 +1,154 @@
+package tetris.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tetris.FormaPeca;
+import tetris.Tabuleiro;
+import tetris.Tetromino;
+import tetris.TipoTetromino;
+
+/**
+ * Operações do Tabuleiro isoladas. As operações que alteram o tabuleiro
+ * começam restaurando o cenário (copiarDe), então cada benchmark inclui o
+ * custo dos anteriores: compare sempre com "restaurar" e com o passo
+ * imediatamente anterior da cadeia fixar -> eliminar -> remover.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TabuleiroBenchmark {
+
+    private static final long SEMENTE = 42L;
+
+    @Param({"VAZIO", "MEIO", "QUASE_CHEIO"})
+    public Cenario cenario;
+
+    private Tabuleiro base;
+    private Tabuleiro tabuleiro;
+    private Tetromino pecaPoco;
+
+    // Sondas de colisão: todas as rotações da peça T em todas as posições
+    // (inclusive fora das bordas), percorridas em ciclo
+    private FormaPeca[] sondaForma;
+    private int[] sondaX;
+    private int[] sondaY;
+    private int sonda;
+    // Quedas: cada rotação da T em cada coluna válida, a partir do topo
+    private FormaPeca[] quedaForma;
+    private int[] quedaX;
+    private int queda;
+    // Buracos do lixo: gerador próprio e com semente (sem Math.random, compartilhado e sincronizado)
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        base = cenario.criarTabuleiro();
+        tabuleiro = new Tabuleiro();
+        tabuleiro.copiarDe(base);
+        pecaPoco = Cenario.pecaNoPoco(base);
+        random = new Random(SEMENTE);
+
+        int rotacoes = TipoTetromino.T.getTotalRotacoes();
+        int total = rotacoes * (Tabuleiro.LARGURA + 2) * Tabuleiro.ALTURA;
+        sondaForma = new FormaPeca[total];
+        sondaX = new int[total];
+        sondaY = new int[total];
+        int i = 0;
+        for (int r = 0; r < rotacoes; r++) {
+            for (int x = -1; x <= Tabuleiro.LARGURA; x++) {
+                for (int y = 0; y < Tabuleiro.ALTURA; y++) {
+                    sondaForma[i] = TipoTetromino.T.getFormaPrecalculada(r);
+                    sondaX[i] = x;
+                    sondaY[i] = y;
+                    i++;
+                }
+            }
+        }
+
+        int quedas = 0;
+        for (int r = 0; r < rotacoes; r++) {
+            FormaPeca forma = TipoTetromino.T.getFormaPrecalculada(r);
+            quedas += Tabuleiro.LARGURA - forma.getLarguraUtil() + 1;
+        }
+        quedaForma = new FormaPeca[quedas];
+        quedaX = new int[quedas];
+        i = 0;
+        for (int r = 0; r < rotacoes; r++) {
+            FormaPeca forma = TipoTetromino.T.getFormaPrecalculada(r);
+            for (int x = -forma.getMinX(); x + forma.getMaxX() < Tabuleiro.LARGURA; x++) {
+                quedaForma[i] = forma;
+                quedaX[i] = x;
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean posicaoValida() {
+        int i = sonda;
+        sonda = (i + 1 == sondaForma.length) ? 0 : i + 1;
+        return tabuleiro.posicaoValida(sondaForma[i], sondaX[i], sondaY[i]);
+    }
+
+    @Benchmark
+    public int distanciaQueda() {
+        int i = queda;
+        queda = (i + 1 == quedaForma.length) ? 0 : i + 1;
+        return tabuleiro.distanciaQueda(quedaForma[i], quedaX[i], 0);
+    }
+
+    // --- Operações que alteram o tabuleiro (cadeia cumulativa) ---
+
+    @Benchmark
+    public Tabuleiro restaurar() {
+        tabuleiro.copiarDe(base);
+        return tabuleiro;
+    }
+
+    @Benchmark
+    public int fixarTetromino() {
+        tabuleiro.copiarDe(base);
+        tabuleiro.fixarTetromino(pecaPoco);
+        return tabuleiro.getAlturaMaxima();
+    }
+
+    @Benchmark
+    public int eliminarLinhasCompletas() {
+        tabuleiro.copiarDe(base);
+        tabuleiro.fixarTetromino(pecaPoco);
+        return tabuleiro.eliminarLinhasCompletas();
+    }
+
+    @Benchmark
+    public int executarRemocaoReal() {
+        tabuleiro.copiarDe(base);
+        tabuleiro.fixarTetromino(pecaPoco);
+        tabuleiro.eliminarLinhasCompletas();
+        tabuleiro.executarRemocaoReal();
+        return tabuleiro.getAlturaMaxima();
+    }
+
+    @Benchmark
+    public int addGarbageLines() {
+        tabuleiro.copiarDe(base);
+        tabuleiro.addGarbageLines(1, random);
+        return tabuleiro.getAlturaMaxima();
+    }
+}
\ No newline at end of file
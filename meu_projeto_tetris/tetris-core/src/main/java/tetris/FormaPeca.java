@@ -0,0 +1,129 @@
+package tetris;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Forma pré-calculada de uma peça em uma rotação específica.
+ * Guarda as máscaras de bits das linhas ocupadas, a caixa delimitadora
+ * (min/max de x e y relativos à origem da forma) e a lista de células,
+ * para que colisão, fixação e renderização leiam apenas células ocupadas
+ * em vez de varrer a matriz boolean inteira (incluindo o preenchimento 4x4).
+ *
+ * Instâncias são imutáveis e compartilhadas; os arrays retornados pelos
+ * getters NÃO devem ser modificados.
+ */
+public final class FormaPeca {
+
+    // Máscara da linha (minY + i): bit j ligado quando a coluna j está ocupada
+    private final int[] mascarasLinha;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+    // Células ocupadas (coordenadas relativas à origem da forma)
+    private final int[] celulasX;
+    private final int[] celulasY;
+    // Linha mais baixa ocupada em cada coluna j da forma (-1 quando vazia)
+    private final int[] fundoColuna;
+
+    private FormaPeca(boolean[][] forma) {
+        int menorX = Integer.MAX_VALUE, maiorX = -1, menorY = Integer.MAX_VALUE, maiorY = -1;
+        int total = 0;
+        for (int i = 0; i < forma.length; i++) {
+            for (int j = 0; j < forma[i].length; j++) {
+                if (forma[i][j]) {
+                    menorX = Math.min(menorX, j);
+                    maiorX = Math.max(maiorX, j);
+                    menorY = Math.min(menorY, i);
+                    maiorY = Math.max(maiorY, i);
+                    total++;
+                }
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("A forma da peça não possui células ocupadas.");
+        }
+
+        this.minX = menorX;
+        this.maxX = maiorX;
+        this.minY = menorY;
+        this.maxY = maiorY;
+        this.mascarasLinha = new int[maiorY - menorY + 1];
+        this.celulasX = new int[total];
+        this.celulasY = new int[total];
+        this.fundoColuna = new int[maiorX + 1];
+        Arrays.fill(fundoColuna, -1);
+
+        int c = 0;
+        for (int i = menorY; i <= maiorY; i++) {
+            for (int j = 0; j < forma[i].length; j++) {
+                if (forma[i][j]) {
+                    mascarasLinha[i - menorY] |= 1 << j;
+                    celulasX[c] = j;
+                    celulasY[c] = i;
+                    fundoColuna[j] = i;
+                    c++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pré-calcula a tabela de formas de todas as rotações de uma peça.
+     */
+    public static FormaPeca[] precalcular(boolean[][][] formas) {
+        Objects.requireNonNull(formas, "Formas da peça não podem ser nulas.");
+        FormaPeca[] tabela = new FormaPeca[formas.length];
+        for (int r = 0; r < formas.length; r++) {
+            tabela[r] = new FormaPeca(formas[r]);
+        }
+        return tabela;
+    }
+
+    // --- Getters ---
+
+    public int[] getMascarasLinha() {
+        return mascarasLinha;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int getLarguraUtil() {
+        return maxX - minX + 1;
+    }
+
+    public int getAlturaUtil() {
+        return maxY - minY + 1;
+    }
+
+    public int getTotalCelulas() {
+        return celulasX.length;
+    }
+
+    public int[] getCelulasX() {
+        return celulasX;
+    }
+
+    public int[] getCelulasY() {
+        return celulasY;
+    }
+
+    public int[] getFundoColuna() {
+        return fundoColuna;
+    }
+}
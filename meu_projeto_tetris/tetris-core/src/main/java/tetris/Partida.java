@@ -0,0 +1,311 @@
+package tetris;
+
+//import java.util.UUID;
+//import tetris.model.IPiece; 
+import java.util.Random; // NOVO: Importar Random
+
+public class Partida {
+    private final String id;
+    private Jogador jogador;
+    private final Tabuleiro tabuleiro;
+    private Tetromino tetrominoAtual;
+    private Tetromino proximoTetromino;
+    private Pontuacao pontuacaoAtual;
+    private SistemaPontuacao sistemaPontuacao;
+    private int nivel;
+    private int totalLinhas;
+    private int pecasFixadas;
+    private boolean gameOver;
+    // sinaliza que um level-up ocorreu na última atualização (consumível pela UI)
+    private boolean levelUpFlag = false;
+
+    // --- NOVO PARA REPLAY E DETERMINISMO ---
+    private long initialSeed;
+    private final Random randomGenerator; 
+    // Gerador separado para os buracos das linhas de lixo: derivado da mesma
+    // semente, mas sem consumir a sequência de peças
+    private final Random geradorLixo;
+    private static final long MISTURA_LIXO = 0x9E3779B97F4A7C15L;
+    // ----------------------------------------
+
+    public boolean isLevelUpFlag() {
+        return levelUpFlag;
+    }
+
+    public void consumeLevelUpFlag() {
+        this.levelUpFlag = false;
+    }
+    
+    // CONSTRUTOR MODIFICADO PARA ACEITAR A SEMENTE (Replay/Determinismo)
+    public Partida(String id, Jogador jogador, long initialSeed) {
+        this.id = id;
+        this.jogador = jogador;
+        this.tabuleiro = new Tabuleiro();
+        this.sistemaPontuacao = new SistemaPontuacao();
+        this.pontuacaoAtual = new Pontuacao(0);
+        this.nivel = 1;
+        this.totalLinhas = 0;
+        this.gameOver = false;
+        
+        // --- INICIALIZAÇÃO DA SEMENTE E DO GERADOR ---
+        this.initialSeed = initialSeed;
+        // O gerador é inicializado com a semente fornecida
+        this.randomGenerator = new Random(initialSeed); 
+        this.geradorLixo = new Random(initialSeed ^ MISTURA_LIXO);
+        // ----------------------------------------------
+
+        // Usa o método estático do Tetromino que aceita o gerador de Random
+        this.tetrominoAtual = Tetromino.criarTetrominoAleatorio(randomGenerator);
+        this.proximoTetromino = Tetromino.criarTetrominoAleatorio(randomGenerator);
+    }
+    
+    // Construtor auxiliar (Usa a hora atual como semente para jogadas normais)
+    public Partida(String id, Jogador jogador) {
+        this(id, jogador, System.currentTimeMillis());
+    }
+
+
+    // Permite alterar o jogador associado a esta Partida (por exemplo,
+    // quando o usuário escolhe um jogador diferente na UI).
+    public void setJogador(Jogador novoJogador) {
+        if (novoJogador == null)
+            throw new IllegalArgumentException("Jogador não pode ser nulo");
+        this.jogador = novoJogador;
+    }
+
+    /**
+     * Recomeça a partida com outra semente reaproveitando tabuleiro, peças e
+     * gerador. A sequência de peças é a mesma de new Partida(id, jogador, semente).
+     */
+    public synchronized void reiniciar(long semente) {
+        tabuleiro.limpar();
+        pontuacaoAtual = new Pontuacao(0);
+        nivel = 1;
+        totalLinhas = 0;
+        pecasFixadas = 0;
+        gameOver = false;
+        levelUpFlag = false;
+
+        initialSeed = semente;
+        randomGenerator.setSeed(semente);
+        geradorLixo.setSeed(semente ^ MISTURA_LIXO);
+        tetrominoAtual.reiniciar(TipoTetromino.sortear(randomGenerator));
+        proximoTetromino.reiniciar(TipoTetromino.sortear(randomGenerator));
+    }
+
+    // --- LÓGICA DE JOGO PRINCIPAL (SINCRONIZADA) ---
+
+    public synchronized boolean processarQueda() { // SINCRONIZADO
+        if (gameOver)
+            return false;
+        if (moverTetromino(0, 1)) {
+            return true;
+        }
+
+        fixarTetromino();
+        pecasFixadas++;
+
+        int linhasEliminadas = tabuleiro.eliminarLinhasCompletas();
+        if (linhasEliminadas > 0) {
+            totalLinhas += linhasEliminadas;
+            int pontosGanhos = sistemaPontuacao.calcularPontos(linhasEliminadas, nivel);
+            pontuacaoAtual = pontuacaoAtual.adicionarPontos(pontosGanhos);
+            int novoNivel = sistemaPontuacao.calcularNovoNivel(totalLinhas);
+            if (novoNivel > nivel) {
+                nivel = novoNivel;
+                levelUpFlag = true; // marca que houve level-up
+            }
+        }
+
+        // A peça fixada é reaproveitada como a próxima (nenhuma alocação por peça)
+        Tetromino fixada = tetrominoAtual;
+        tetrominoAtual = proximoTetromino;
+        // NOVO: Usa o gerador de Random da Partida para o determinismo
+        fixada.reiniciar(TipoTetromino.sortear(randomGenerator));
+        proximoTetromino = fixada;
+
+        if (!tabuleiro.posicaoValida(tetrominoAtual)) {
+            gameOver = true;
+        }
+        return false;
+    }
+
+    public synchronized boolean moverTetromino(int dx, int dy) { // SINCRONIZADO
+        if (gameOver)
+            return false;
+
+        // Testa a posição no próprio tabuleiro (sem criar Posicao/Tetromino temporários)
+        // A lógica de mover/colidir é a principal candidata a Race Condition
+        Tetromino peca = tetrominoAtual;
+        if (tabuleiro.posicaoValida(peca.getFormaPrecalculada(), peca.getX() + dx, peca.getY() + dy)) {
+            peca.mover(dx, dy);
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized boolean rotacionarTetromino() { // SINCRONIZADO
+        if (gameOver)
+            return false;
+
+        // Testa a próxima rotação na posição atual antes de aplicá-la
+        Tetromino peca = tetrominoAtual;
+        FormaPeca formaRotacionada = peca.getFormaPrecalculada(peca.getProximaRotacao());
+
+        if (tabuleiro.posicaoValida(formaRotacionada, peca.getX(), peca.getY())) {
+            peca.rotacionar();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hard drop: desce a peça de uma vez até o ponto de contato (a fixação
+     * acontece no próximo processarQueda). Retorna quantas linhas ela caiu.
+     */
+    public synchronized int soltarTetromino() {
+        if (gameOver)
+            return 0;
+
+        Tetromino peca = tetrominoAtual;
+        int distancia = tabuleiro.distanciaQueda(peca.getFormaPrecalculada(), peca.getX(), peca.getY());
+        peca.mover(0, distancia);
+        return distancia;
+    }
+
+    /**
+     * Linha (y) onde a peça atual pararia se fosse solta agora (peça fantasma).
+     */
+    public synchronized int calcularYFantasma() {
+        Tetromino peca = tetrominoAtual;
+        return peca.getY() + tabuleiro.distanciaQueda(peca.getFormaPrecalculada(), peca.getX(), peca.getY());
+    }
+
+    /**
+     * Aplica a regra de lixo do nível atual (chamada após um level-up).
+     * Os buracos vêm do gerador da partida, então a mesma semente produz o
+     * mesmo tabuleiro. Retorna quantas linhas de lixo foram adicionadas.
+     */
+    public synchronized int aplicarLixoDoNivel() {
+        int linhas = sistemaPontuacao.linhasDeLixoAoAlcancar(nivel);
+        tabuleiro.addGarbageLines(linhas, geradorLixo);
+        return linhas;
+    }
+
+    /**
+     * true se processarQueda marcou linhas completas que ainda esperam
+     * concluirRemocaoLinhas (animação de remoção em andamento).
+     */
+    public synchronized boolean temLinhasMarcadas() {
+        for (boolean marcada : tabuleiro.getLinhasParaRemover()) {
+            if (marcada) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fim da animação: remove de fato as linhas marcadas e compacta o
+     * tabuleiro. Sob o lock da Partida, como os comandos do jogador, que
+     * podem chegar de outras threads no meio da animação.
+     */
+    public synchronized void concluirRemocaoLinhas() {
+        tabuleiro.executarRemocaoReal();
+    }
+
+    /**
+     * Preenche o quadro informado com o estado atual, consistente (um único
+     * lock da Partida, em vez de uma leitura sincronizada por célula na
+     * renderização), sem alocar. Pausa e tick de animação pertencem ao laço
+     * de jogo e vêm de fora. Retorna o próprio destino.
+     */
+    public synchronized QuadroJogo capturarQuadro(QuadroJogo destino, long versao, boolean pausado,
+            int ticksAnimacao) {
+        if (destino == QuadroJogo.VAZIO) {
+            throw new IllegalArgumentException("O quadro vazio compartilhado não pode ser preenchido");
+        }
+        tabuleiro.copiarEstadoVisual(destino.getCores(), destino.getLinhasParaRemover());
+
+        Tetromino peca = tetrominoAtual;
+        FormaPeca forma = null;
+        int indiceCor = Tabuleiro.COR_VAZIA, x = 0, y = 0, yFantasma = 0;
+        if (peca != null) {
+            forma = peca.getFormaPrecalculada();
+            indiceCor = peca.getIndiceCor();
+            x = peca.getX();
+            y = peca.getY();
+            yFantasma = gameOver ? y : calcularYFantasma();
+        }
+        Tetromino proxima = proximoTetromino;
+        destino.preencher(versao, forma, indiceCor, x, y, yFantasma,
+                proxima != null ? proxima.getFormaPrecalculada() : null,
+                proxima != null ? proxima.getIndiceCor() : Tabuleiro.COR_VAZIA,
+                pontuacaoAtual.getValor(), nivel, totalLinhas, pausado, gameOver, ticksAnimacao);
+        return destino;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void fixarTetromino() {
+        tabuleiro.fixarTetromino(tetrominoAtual);
+    }
+
+    // --- GETTERS ---
+    public Jogador getJogador() {
+        return jogador;
+    }
+
+    public Tabuleiro getTabuleiro() {
+        return tabuleiro;
+    }
+
+    public int getPontuacao() {
+        return pontuacaoAtual.getValor();
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    // Intervalo da queda automática para o nível atual (tabelado)
+    public long getIntervaloQuedaMs() {
+        return TabelaGravidade.PADRAO.getIntervaloMs(nivel);
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    
+    // NOVO GETTER: Essencial para o Replay (dado que será salvo/carregado)
+    public long getInitialSeed() {
+        return initialSeed;
+    }
+
+    public Tetromino getTetrominoAtual() {
+        return tetrominoAtual;
+    }
+
+    public Tetromino getProximoTetromino() {
+        return proximoTetromino;
+    }
+
+    public int getTotalLinhas() {
+        return totalLinhas;
+    }
+
+    public int getPecasFixadas() {
+        return pecasFixadas;
+    }
+
+    /**
+     * Retorna true se houve um level-up desde a última vez que este método foi
+     * chamado.
+     * O método também reseta o flag (consumível).
+     */
+    public synchronized boolean consumeLevelUp() {
+        boolean v = levelUpFlag;
+        levelUpFlag = false;
+        return v;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package tetris;
+
+/**
+ * Publicação do QuadroJogo com dois quadros pré-alocados (double
+ * buffering): a thread do jogo preenche o quadro que não está publicado e
+ * troca a referência volatile; nenhum quadro é alocado por passo.
+ *
+ * O leitor (um por vez, normalmente a thread do JavaFX) retém o quadro
+ * publicado entre adquirir() e liberar(). Se o escritor precisar justamente
+ * do quadro retido, publicar() devolve false sem escrever nada e o escritor
+ * tenta de novo mais tarde (no frame seguinte); o leitor nunca espera.
+ */
+public final class QuadroDuplo {
+
+    private final QuadroJogo[] quadros = { new QuadroJogo(), new QuadroJogo() };
+    private volatile QuadroJogo publicado = QuadroJogo.VAZIO;
+    private QuadroJogo emLeitura; // guardado pelo monitor
+    private long versao = 0;      // só o escritor
+
+    /**
+     * Escritor (uma única thread): captura a partida no quadro livre e o
+     * publica com a versão seguinte. Retorna false se o quadro livre ainda
+     * está com o leitor (nada foi publicado).
+     */
+    public boolean publicar(Partida partida, boolean pausado, int ticksAnimacao) {
+        QuadroJogo livre;
+        synchronized (this) {
+            livre = publicado == quadros[0] ? quadros[1] : quadros[0];
+            if (livre == emLeitura) {
+                return false;
+            }
+        }
+        // O leitor só alcança este quadro depois da escrita volatile abaixo
+        partida.capturarQuadro(livre, versao + 1, pausado, ticksAnimacao);
+        versao++;
+        publicado = livre;
+        return true;
+    }
+
+    /**
+     * Leitor: retém o último quadro publicado até liberar(). Não encaixa:
+     * chame liberar() antes de adquirir de novo.
+     */
+    public synchronized QuadroJogo adquirir() {
+        emLeitura = publicado;
+        return emLeitura;
+    }
+
+    public synchronized void liberar() {
+        emLeitura = null;
+    }
+
+    /** Versão do último quadro publicado (qualquer thread, sem reter o quadro). */
+    public long getVersao() {
+        return publicado.getVersao();
+    }
+}
@@ -0,0 +1,165 @@
+package tetris;
+
+/**
+ * Retrato de tudo que a tela precisa para desenhar um frame: plano de
+ * cores do tabuleiro, linhas em animação, peça atual e fantasma, próxima
+ * peça, placar e estado (pausa, fim de jogo, tick da animação).
+ *
+ * A thread do jogo preenche um quadro (Partida.capturarQuadro) sempre que o
+ * estado muda e o publica (QuadroDuplo); os painéis leem o publicado sem
+ * disputar o monitor do Tabuleiro célula por célula. A versão cresce a cada
+ * publicação. Os quadros são preenchidos de novo em vez de recriados: um
+ * quadro publicado não muda enquanto alguém o lê, e quem precisa dele por
+ * mais tempo (outra thread) faz uma cópia (copiarDe).
+ *
+ * Os arrays internos não são expostos; os getters por célula/linha bastam
+ * para a renderização.
+ */
+public final class QuadroJogo {
+
+    /** Quadro vazio, usado antes da primeira publicação. Nunca é preenchido. */
+    public static final QuadroJogo VAZIO = new QuadroJogo();
+
+    private long versao;
+    private final byte[] cores = new byte[Tabuleiro.LARGURA * Tabuleiro.ALTURA]; // índice = y * LARGURA + x
+    private final boolean[] linhasParaRemover = new boolean[Tabuleiro.ALTURA];
+
+    // Peça atual (forma == null quando não há peça)
+    private FormaPeca formaPeca;
+    private int indiceCorPeca = Tabuleiro.COR_VAZIA;
+    private int xPeca;
+    private int yPeca;
+    private int yFantasma;
+
+    private FormaPeca formaProxima;
+    private int indiceCorProxima = Tabuleiro.COR_VAZIA;
+
+    private int pontuacao;
+    private int nivel = 1;
+    private int totalLinhas;
+    private boolean pausado;
+    private boolean gameOver;
+    private int ticksAnimacao;
+
+    /** Quadro vazio (versão 0), para ser preenchido depois. */
+    public QuadroJogo() {
+    }
+
+    // Chamado pela Partida, sob o lock dela, depois de copiar o tabuleiro para os arrays do quadro
+    void preencher(long versao, FormaPeca formaPeca, int indiceCorPeca, int xPeca, int yPeca, int yFantasma,
+            FormaPeca formaProxima, int indiceCorProxima,
+            int pontuacao, int nivel, int totalLinhas, boolean pausado, boolean gameOver, int ticksAnimacao) {
+        this.versao = versao;
+        this.formaPeca = formaPeca;
+        this.indiceCorPeca = indiceCorPeca;
+        this.xPeca = xPeca;
+        this.yPeca = yPeca;
+        this.yFantasma = yFantasma;
+        this.formaProxima = formaProxima;
+        this.indiceCorProxima = indiceCorProxima;
+        this.pontuacao = pontuacao;
+        this.nivel = nivel;
+        this.totalLinhas = totalLinhas;
+        this.pausado = pausado;
+        this.gameOver = gameOver;
+        this.ticksAnimacao = ticksAnimacao;
+    }
+
+    byte[] getCores() {
+        return cores;
+    }
+
+    boolean[] getLinhasParaRemover() {
+        return linhasParaRemover;
+    }
+
+    /**
+     * Copia outro quadro inteiro para este (sem alocar). Para reter um
+     * quadro publicado além da leitura, por exemplo numa thread de fundo.
+     */
+    public void copiarDe(QuadroJogo origem) {
+        System.arraycopy(origem.cores, 0, cores, 0, cores.length);
+        System.arraycopy(origem.linhasParaRemover, 0, linhasParaRemover, 0, linhasParaRemover.length);
+        preencher(origem.versao, origem.formaPeca, origem.indiceCorPeca, origem.xPeca, origem.yPeca,
+                origem.yFantasma, origem.formaProxima, origem.indiceCorProxima, origem.pontuacao, origem.nivel,
+                origem.totalLinhas, origem.pausado, origem.gameOver, origem.ticksAnimacao);
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    // --- TABULEIRO ---
+
+    public int getIndiceCor(int x, int y) {
+        return cores[y * Tabuleiro.LARGURA + x];
+    }
+
+    public boolean isLinhaParaRemover(int y) {
+        return linhasParaRemover[y];
+    }
+
+    // --- PEÇAS ---
+
+    public boolean temPeca() {
+        return formaPeca != null;
+    }
+
+    public FormaPeca getFormaPeca() {
+        return formaPeca;
+    }
+
+    public int getIndiceCorPeca() {
+        return indiceCorPeca;
+    }
+
+    public int getXPeca() {
+        return xPeca;
+    }
+
+    public int getYPeca() {
+        return yPeca;
+    }
+
+    public int getYFantasma() {
+        return yFantasma;
+    }
+
+    public boolean temProxima() {
+        return formaProxima != null;
+    }
+
+    public FormaPeca getFormaProxima() {
+        return formaProxima;
+    }
+
+    public int getIndiceCorProxima() {
+        return indiceCorProxima;
+    }
+
+    // --- PLACAR E ESTADO ---
+
+    public int getPontuacao() {
+        return pontuacao;
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    public int getTotalLinhas() {
+        return totalLinhas;
+    }
+
+    public boolean isPausado() {
+        return pausado;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getTicksAnimacao() {
+        return ticksAnimacao;
+    }
+}
@@ -0,0 +1,53 @@
+package tetris;
+
+public class SistemaPontuacao {
+
+    // Pontos Base: {0, 100, 300, 500, 800} para 0, 1, 2, 3, 4 linhas eliminadas
+    private static final int[] PONTOS_BASE = { 0, 100, 300, 500, 800 };
+    // Tornamos a progressão por nível ainda mais rápida: 4 linhas por nível
+    private static final int LINHAS_POR_NIVEL = 4;
+    // A partir do nível 5, a cada 3 níveis o jogador recebe uma linha de lixo
+    private static final int NIVEL_PRIMEIRO_LIXO = 5;
+    private static final int INTERVALO_NIVEIS_LIXO = 3;
+    // Velocidade de queda: 800 ms no nível 1, 25% mais rápida a cada nível, mínimo de 30 ms
+    private static final long BASE_DROP_MS = 800L;
+    private static final double DROP_FACTOR = 0.75;
+    private static final long MIN_DROP_MS = 30L;
+
+    public int calcularPontos(int linhasEliminadas, int nivel) {
+        if (linhasEliminadas < 0 || linhasEliminadas > 4) {
+            return 0;
+        }
+
+        int pontosBase = PONTOS_BASE[linhasEliminadas];
+        // Aplicamos um multiplicador mais agressivo por nível.
+        // Fórmula: pontos = round(pontosBase * (1 + 0.25 * (nivel - 1)))
+        double multiplicador = 1.0 + 0.25 * (Math.max(1, nivel) - 1);
+        return (int) Math.round(pontosBase * multiplicador);
+    }
+
+    public int calcularNovoNivel(int totalLinhas) {
+        return 1 + (totalLinhas / LINHAS_POR_NIVEL);
+    }
+
+    /**
+     * Intervalo (ms) entre dois passos de queda automática no nível informado.
+     */
+    public long calcularIntervaloQuedaMs(int nivel) {
+        if (nivel <= 1)
+            return BASE_DROP_MS;
+        double factor = Math.pow(DROP_FACTOR, Math.max(0, nivel - 1));
+        long computed = Math.round(BASE_DROP_MS * factor);
+        return Math.max(MIN_DROP_MS, computed);
+    }
+
+    /**
+     * Quantas linhas de lixo entram no tabuleiro ao alcançar o nível informado.
+     */
+    public int linhasDeLixoAoAlcancar(int nivel) {
+        if (nivel >= NIVEL_PRIMEIRO_LIXO && (nivel - NIVEL_PRIMEIRO_LIXO) % INTERVALO_NIVEIS_LIXO == 0) {
+            return 1;
+        }
+        return 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package tetris;
+
+/**
+ * Velocidade de queda pré-calculada por nível, em frames (a 60 Hz) por
+ * linha e em milissegundos. Montada uma vez a partir de
+ * SistemaPontuacao.calcularIntervaloQuedaMs, então o laço de jogo só faz uma
+ * leitura de array por passo. Em frames, a queda mais rápida (30 ms) vira
+ * 2 frames exatos por linha em vez de um sleep que oscila com o processamento.
+ */
+public final class TabelaGravidade {
+
+    public static final int FRAMES_POR_SEGUNDO = 60;
+    public static final long NANOS_POR_FRAME = 1_000_000_000L / FRAMES_POR_SEGUNDO;
+
+    // A partir deste nível a velocidade já está no mínimo (30 ms); acima dele vale a última entrada
+    private static final int NIVEL_MAXIMO_TABELADO = 30;
+
+    public static final TabelaGravidade PADRAO = new TabelaGravidade(new SistemaPontuacao());
+
+    // Índice = nível (posição 0 repete o nível 1)
+    private final long[] intervaloMs;
+    private final int[] framesPorLinha;
+
+    public TabelaGravidade(SistemaPontuacao sistemaPontuacao) {
+        intervaloMs = new long[NIVEL_MAXIMO_TABELADO + 1];
+        framesPorLinha = new int[NIVEL_MAXIMO_TABELADO + 1];
+        for (int nivel = 0; nivel <= NIVEL_MAXIMO_TABELADO; nivel++) {
+            long ms = sistemaPontuacao.calcularIntervaloQuedaMs(Math.max(1, nivel));
+            intervaloMs[nivel] = ms;
+            framesPorLinha[nivel] = (int) Math.max(1, Math.round(ms * FRAMES_POR_SEGUNDO / 1000.0));
+        }
+    }
+
+    public long getIntervaloMs(int nivel) {
+        return intervaloMs[indice(nivel)];
+    }
+
+    public int getFramesPorLinha(int nivel) {
+        return framesPorLinha[indice(nivel)];
+    }
+
+    private static int indice(int nivel) {
+        return Math.min(Math.max(nivel, 0), NIVEL_MAXIMO_TABELADO);
+    }
+}
\ No newline at end of file
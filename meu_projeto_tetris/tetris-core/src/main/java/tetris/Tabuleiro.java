@@ -0,0 +1,465 @@
+package tetris;
+
+import java.util.UUID;
+import java.util.Arrays;
+import java.util.Random;
+
+
+public class Tabuleiro {
+    // Usaremos valores fixos conforme especificado no projeto
+    public static final int LARGURA = 10;
+    public static final int ALTURA = 20;
+
+    /**
+     * Índices do plano de cores: 0 representa célula vazia, 1..7 são os tipos
+     * de peça (TipoTetromino.getIndiceCor) e o último é o das linhas de lixo.
+     * A tradução para cores reais fica na camada de UI.
+     */
+    public static final int COR_VAZIA = 0;
+    public static final int COR_LIXO = TipoTetromino.values().length + 1;
+    public static final int TOTAL_CORES = COR_LIXO + 1;
+
+    // Bits reservados à esquerda de cada linha para representar a parede.
+    // Com 4 bits de margem, a máscara de uma forma 4x4 nunca precisa de
+    // deslocamento negativo.
+    private static final int MARGEM = 4;
+
+    private final UUID id;
+    private final int largura;
+    private final int altura;
+
+    // BITBOARD: cada linha é um int onde o bit (x + MARGEM) indica bloco fixo.
+    // Os bits fora da área jogável ficam sempre ligados (paredes), de modo que
+    // a colisão com bordas e com blocos é um único AND.
+    private final int[] linhas;
+    // Máscara das colunas jogáveis e linha vazia (somente paredes)
+    private final int mascaraCheia;
+    private final int linhaVazia;
+
+    // Plano de cores compacto (índices de cor), usado apenas na renderização
+    private final byte[] cores;
+
+    // Contadores incrementais: blocos por linha e total de blocos fixos
+    private final int[] preenchimentoLinha;
+    private int totalBlocos;
+    // Faixa de linhas tocada pela última peça fixada (únicas candidatas a linha completa)
+    private int linhaTocadaMin;
+    private int linhaTocadaMax;
+
+    // Perfil da superfície: linha do bloco mais alto de cada coluna (altura quando vazia)
+    // e agregados lidos em tempo constante por bots/avaliadores
+    private final int[] topoColuna;
+    private int somaAlturas;
+    private int alturaMaxima;
+    private int irregularidade; // soma de |altura(x) - altura(x+1)|
+
+    // Array para estado de animação (usado no GameController)
+    private final boolean[] linhasParaRemover;
+
+    public Tabuleiro() {
+        this(LARGURA, ALTURA);
+    }
+
+    // Construtor que permite dimensões personalizadas para testes
+    public Tabuleiro(int largura, int altura) {
+        if (largura <= 0 || largura > Integer.SIZE - 2 * MARGEM || altura <= 0) {
+            throw new IllegalArgumentException("Dimensões inválidas para o tabuleiro: " + largura + "x" + altura);
+        }
+        this.id = UUID.randomUUID();
+        this.largura = largura;
+        this.altura = altura;
+        this.mascaraCheia = ((1 << largura) - 1) << MARGEM;
+        this.linhaVazia = ~mascaraCheia;
+        this.linhas = new int[altura];
+        Arrays.fill(linhas, linhaVazia);
+        this.cores = new byte[altura * largura];
+        this.preenchimentoLinha = new int[altura];
+        this.topoColuna = new int[largura];
+        Arrays.fill(topoColuna, altura);
+        this.linhasParaRemover = new boolean[altura];
+        limparFaixaTocada();
+    }
+
+    /**
+     * Esvazia o tabuleiro (blocos, cores, contadores, perfil e marcas de animação).
+     */
+    public synchronized void limpar() {
+        Arrays.fill(linhas, linhaVazia);
+        Arrays.fill(cores, (byte) 0);
+        Arrays.fill(preenchimentoLinha, 0);
+        Arrays.fill(topoColuna, altura);
+        Arrays.fill(linhasParaRemover, false);
+        totalBlocos = 0;
+        somaAlturas = 0;
+        alturaMaxima = 0;
+        irregularidade = 0;
+        limparFaixaTocada();
+    }
+
+    /**
+     * Copia todo o estado de outro tabuleiro de mesmas dimensões, sem alocar.
+     * Serve para restaurar uma posição de referência (benchmarks, simulações).
+     */
+    public synchronized void copiarDe(Tabuleiro origem) {
+        if (origem.largura != largura || origem.altura != altura) {
+            throw new IllegalArgumentException("Dimensões diferentes: " + origem.largura + "x" + origem.altura);
+        }
+        System.arraycopy(origem.linhas, 0, linhas, 0, altura);
+        System.arraycopy(origem.cores, 0, cores, 0, cores.length);
+        System.arraycopy(origem.preenchimentoLinha, 0, preenchimentoLinha, 0, altura);
+        System.arraycopy(origem.topoColuna, 0, topoColuna, 0, largura);
+        System.arraycopy(origem.linhasParaRemover, 0, linhasParaRemover, 0, altura);
+        totalBlocos = origem.totalBlocos;
+        linhaTocadaMin = origem.linhaTocadaMin;
+        linhaTocadaMax = origem.linhaTocadaMax;
+        somaAlturas = origem.somaAlturas;
+        alturaMaxima = origem.alturaMaxima;
+        irregularidade = origem.irregularidade;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    /**
+     * NOVO: Retorna o índice de cor de um bloco fixo (COR_VAZIA quando não há bloco).
+     */
+    public synchronized int getIndiceCor(int x, int y) {
+        if (x >= 0 && x < largura && y >= 0 && y < altura) {
+            return cores[y * largura + x];
+        }
+        return COR_VAZIA;
+    }
+
+    // NOVO: Verifica se há um bloco fixo
+    public boolean temBloco(int x, int y) {
+        // Verifica limites e consulta o bit correspondente no bitboard
+        return x >= 0 && x < largura && y >= 0 && y < altura
+                && (linhas[y] & (1 << (x + MARGEM))) != 0;
+    }
+
+    // Método temporário para testes
+    public boolean temBlocosFixos() {
+        return totalBlocos > 0;
+    }
+
+    // Quantidade de blocos fixos na linha y (mantida incrementalmente)
+    public int getPreenchimentoLinha(int y) {
+        return (y >= 0 && y < altura) ? preenchimentoLinha[y] : 0;
+    }
+
+    // --- PERFIL DA SUPERFÍCIE (mantido incrementalmente) ---
+
+    // Altura da coluna x: 0 quando vazia, ALTURA quando o bloco mais alto está na linha 0
+    public int getAlturaColuna(int x) {
+        return altura - topoColuna[x];
+    }
+
+    public int getAlturaMaxima() {
+        return alturaMaxima;
+    }
+
+    public int getSomaAlturas() {
+        return somaAlturas;
+    }
+
+    public int getIrregularidade() {
+        return irregularidade;
+    }
+
+    /**
+     * Células vazias com algum bloco acima na mesma coluna. Calculado no
+     * bitboard a partir da linha mais alta ocupada: uma máscara acumula as
+     * colunas já cobertas e cada linha contribui com os bits vazios sob ela.
+     */
+    public synchronized int contarBuracos() {
+        int buracos = 0;
+        int cobertura = 0;
+        for (int y = altura - alturaMaxima; y < altura; y++) {
+            buracos += Integer.bitCount(cobertura & ~linhas[y]);
+            cobertura |= linhas[y] & mascaraCheia;
+        }
+        return buracos;
+    }
+
+    // Getter para a Partida: matriz de índices de cor (cópia protege o estado interno)
+    public synchronized byte[][] getGrid() {
+        byte[][] grid = new byte[altura][largura];
+        for (int y = 0; y < altura; y++) {
+            System.arraycopy(cores, y * largura, grid[y], 0, largura);
+        }
+        return grid;
+    }
+
+    /**
+     * Copia o plano de cores (y * largura + x) e as marcas de animação de uma
+     * vez, sob o mesmo lock: base do QuadroJogo publicado para a renderização.
+     */
+    public synchronized void copiarEstadoVisual(byte[] destinoCores, boolean[] destinoLinhas) {
+        System.arraycopy(cores, 0, destinoCores, 0, cores.length);
+        System.arraycopy(linhasParaRemover, 0, destinoLinhas, 0, altura);
+    }
+
+    // Getter para a animação
+    public boolean[] getLinhasParaRemover() {
+        return linhasParaRemover;
+    }
+
+    // --- LÓGICA DE COLISÃO E FIXAÇÃO ---
+
+    public boolean posicaoValida(Tetromino tetromino) {
+        return posicaoValida(tetromino.getFormaPrecalculada(), tetromino.getX(), tetromino.getY());
+    }
+
+    /**
+     * Teste "in-place": verifica a peça na rotação e posição informadas
+     * sem precisar criar uma cópia do Tetromino.
+     */
+    public boolean posicaoValida(Tetromino tetromino, int rotacao, int x, int y) {
+        return posicaoValida(tetromino.getFormaPrecalculada(rotacao), x, y);
+    }
+
+    /**
+     * Testa a forma na posição (x, y) usando apenas as linhas ocupadas da peça.
+     * Não aloca objetos.
+     */
+    public boolean posicaoValida(FormaPeca forma, int x, int y) {
+        // 1. Colisão com Bordas (pela caixa delimitadora pré-calculada)
+        if (x + forma.getMinX() < 0 || x + forma.getMaxX() >= largura || y + forma.getMaxY() >= altura) {
+            return false;
+        }
+
+        // 2. Colisão com Bloco Fixo (linhas acima do topo não colidem)
+        int[] mascaras = forma.getMascarasLinha();
+        int deslocamento = x + MARGEM;
+        int yBase = y + forma.getMinY();
+        for (int i = Math.max(0, -yBase); i < mascaras.length; i++) {
+            if ((linhas[yBase + i] & (mascaras[i] << deslocamento)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized void fixarTetromino(Tetromino tetromino) {
+        FormaPeca forma = tetromino.getFormaPrecalculada();
+        byte cor = (byte) tetromino.getIndiceCor(); // <-- Índice da cor da peça!
+
+        int[] mascaras = forma.getMascarasLinha();
+        int deslocamento = tetromino.getX() + MARGEM;
+        int yBase = tetromino.getY() + forma.getMinY();
+        for (int i = 0; i < mascaras.length; i++) {
+            int yAbs = yBase + i;
+            if (yAbs < 0 || yAbs >= altura) continue;
+
+            int bits = (mascaras[i] << deslocamento) & mascaraCheia & ~linhas[yAbs];
+            linhas[yAbs] |= bits;
+
+            int novos = Integer.bitCount(bits);
+            preenchimentoLinha[yAbs] += novos;
+            totalBlocos += novos;
+            linhaTocadaMin = Math.min(linhaTocadaMin, yAbs);
+            linhaTocadaMax = Math.max(linhaTocadaMax, yAbs);
+
+            // Atualiza o plano de cores e o topo das colunas apenas nas células ocupadas
+            int base = yAbs * largura - MARGEM;
+            while (bits != 0) {
+                int bit = Integer.numberOfTrailingZeros(bits);
+                cores[base + bit] = cor;
+                if (yAbs < topoColuna[bit - MARGEM]) {
+                    topoColuna[bit - MARGEM] = yAbs;
+                }
+                bits &= bits - 1;
+            }
+        }
+        atualizarPerfil();
+    }
+
+    /**
+     * Quantas linhas a forma pode descer a partir de (x, y), que deve ser uma
+     * posição válida. Quando a peça está acima do topo de todas as colunas que
+     * ocupa, a distância sai direto das alturas em O(largura da peça); se ela
+     * estiver sob uma saliência, cai no teste linha a linha.
+     */
+    public int distanciaQueda(FormaPeca forma, int x, int y) {
+        int[] fundo = forma.getFundoColuna();
+        int distancia = Integer.MAX_VALUE;
+        for (int j = forma.getMinX(); j <= forma.getMaxX(); j++) {
+            if (fundo[j] < 0) continue;
+            int livre = topoColuna[x + j] - 1 - (y + fundo[j]);
+            if (livre < 0) {
+                distancia = -1; // há bloco acima da peça nesta coluna
+                break;
+            }
+            distancia = Math.min(distancia, livre);
+        }
+        if (distancia >= 0) {
+            return distancia;
+        }
+
+        distancia = 0;
+        while (posicaoValida(forma, x, y + distancia + 1)) {
+            distancia++;
+        }
+        return distancia;
+    }
+
+    // --- LÓGICA DE LINHA ---
+
+    /**
+     * Marca as linhas completas para remoção. Só uma peça fixada pode completar
+     * uma linha, então apenas as (no máximo 4) linhas tocadas pela última
+     * fixação são verificadas.
+     */
+    public synchronized int eliminarLinhasCompletas() {
+        int linhasEliminadas = 0;
+
+        for (int y = linhaTocadaMax; y >= linhaTocadaMin; y--) {
+            if (isLineComplete(y)) {
+                // A lógica de animação requer que esta linha seja alterada para marcar o array linhasParaRemover
+                linhasParaRemover[y] = true;
+                linhasEliminadas++;
+            }
+        }
+        limparFaixaTocada();
+        return linhasEliminadas;
+    }
+
+    /**
+     * Verifica se uma linha específica (y) está totalmente preenchida.
+     */
+    private boolean isLineComplete(int y) {
+        return preenchimentoLinha[y] == largura;
+    }
+
+    private void limparFaixaTocada() {
+        linhaTocadaMin = altura;
+        linhaTocadaMax = -1;
+    }
+
+    /**
+     * Remove a linha especificada (y) e move todas as linhas acima para baixo.
+     * Implementa a lógica da remoção REAL (chamada após a animação).
+     */
+    public synchronized void executarRemocaoReal() {
+        int linhasMovidas = 0;
+        int topoAnterior = altura - alturaMaxima;
+
+        for (int y = altura - 1; y >= 0; y--) {
+            if (linhasParaRemover[y]) {
+                linhasMovidas++;
+                linhasParaRemover[y] = false;
+                totalBlocos -= preenchimentoLinha[y];
+            } else if (linhasMovidas > 0) {
+                // Move a linha y para a nova posição (y + linhasMovidas)
+                linhas[y + linhasMovidas] = linhas[y];
+                preenchimentoLinha[y + linhasMovidas] = preenchimentoLinha[y];
+                System.arraycopy(cores, y * largura, cores, (y + linhasMovidas) * largura, largura);
+            }
+        }
+        // Limpa as linhas que ficaram no topo
+        for (int y = 0; y < linhasMovidas; y++) {
+            linhas[y] = linhaVazia;
+            preenchimentoLinha[y] = 0;
+            Arrays.fill(cores, y * largura, (y + 1) * largura, (byte) 0);
+        }
+        if (linhasMovidas > 0) {
+            // Nada existe acima do antigo topo, que desceu linhasMovidas linhas
+            recalcularTopos(Math.min(altura - 1, topoAnterior + linhasMovidas));
+        }
+    }
+
+    /**
+     * Adiciona "garbage lines" ao fundo do tabuleiro.
+     * Cada linha de lixo empurra a grade para cima; a nova linha inferior
+     * é preenchida com blocos (cor cinza) deixando exatamente um buraco aleatório.
+     *
+     * @param count número de linhas de lixo a adicionar
+     */
+    public void addGarbageLines(int count) {
+        addGarbageLines(count, null);
+    }
+
+    /**
+     * Igual a addGarbageLines(int), mas sorteando o buraco com o gerador
+     * informado (determinístico para replay e simulações). Com null usa Math.random.
+     */
+    public synchronized void addGarbageLines(int count, Random random) {
+        if (count <= 0) return;
+        boolean perdeuTopo = false;
+        for (int c = 0; c < count; c++) {
+            // Move todas as linhas para cima (linha y+1 -> y); a linha do topo sai do tabuleiro
+            totalBlocos -= preenchimentoLinha[0];
+            System.arraycopy(linhas, 1, linhas, 0, altura - 1);
+            System.arraycopy(preenchimentoLinha, 1, preenchimentoLinha, 0, altura - 1);
+            System.arraycopy(cores, largura, cores, 0, (altura - 1) * largura);
+            System.arraycopy(linhasParaRemover, 1, linhasParaRemover, 0, altura - 1);
+
+            // Gera a nova linha inferior com um buraco em posição aleatória
+            int hole = random != null ? random.nextInt(largura) : (int) (Math.random() * largura);
+            linhas[altura - 1] = ~(1 << (hole + MARGEM));
+            int base = (altura - 1) * largura;
+            Arrays.fill(cores, base, base + largura, (byte) COR_LIXO);
+            cores[base + hole] = 0;
+            preenchimentoLinha[altura - 1] = largura - 1;
+            totalBlocos += largura - 1;
+            // limpa o flag de animação para a última linha
+            linhasParaRemover[altura - 1] = false;
+
+            // Cada coluna sobe uma linha; colunas vazias passam a ter só o lixo (exceto o buraco)
+            for (int x = 0; x < largura; x++) {
+                if (topoColuna[x] < altura) {
+                    topoColuna[x]--;
+                    perdeuTopo |= topoColuna[x] < 0;
+                } else if (x != hole) {
+                    topoColuna[x] = altura - 1;
+                }
+            }
+        }
+        if (perdeuTopo) {
+            // Blocos empurrados para fora do topo: recalcula a partir da linha 0
+            recalcularTopos(0);
+        } else {
+            atualizarPerfil();
+        }
+    }
+
+    // --- PERFIL DA SUPERFÍCIE ---
+
+    /**
+     * Recalcula o topo das colunas varrendo o bitboard a partir de yInicio
+     * (acima dele não pode haver blocos). Usado após remoções de linha.
+     */
+    private void recalcularTopos(int yInicio) {
+        Arrays.fill(topoColuna, altura);
+        int pendentes = mascaraCheia;
+        for (int y = yInicio; y < altura && pendentes != 0; y++) {
+            int bits = linhas[y] & pendentes;
+            pendentes &= ~bits;
+            while (bits != 0) {
+                topoColuna[Integer.numberOfTrailingZeros(bits) - MARGEM] = y;
+                bits &= bits - 1;
+            }
+        }
+        atualizarPerfil();
+    }
+
+    // Atualiza os agregados da superfície em O(largura)
+    private void atualizarPerfil() {
+        int soma = 0;
+        int maxima = 0;
+        int irregular = 0;
+        int anterior = 0;
+        for (int x = 0; x < largura; x++) {
+            int h = altura - topoColuna[x];
+            soma += h;
+            maxima = Math.max(maxima, h);
+            if (x > 0) {
+                irregular += Math.abs(h - anterior);
+            }
+            anterior = h;
+        }
+        this.somaAlturas = soma;
+        this.alturaMaxima = maxima;
+        this.irregularidade = irregular;
+    }
+
+}
@@ -0,0 +1,121 @@
+package tetris;
+
+import java.util.Random;
+import java.util.Objects;
+
+/**
+ * Peça do Tetris: tipo (flyweight imutável em TipoTetromino) + rotação e
+ * posição mutáveis. Classe final única para todos os tipos, de forma que
+ * getForma()/getCor() sejam chamadas monomórficas no caminho crítico.
+ */
+public final class Tetromino {
+
+    // Posição de nascimento das peças
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+
+    private TipoTetromino tipo;
+    // Estado mutável em primitivos: mover/rotacionar não alocam objetos
+    private int x;
+    private int y;
+    private int rotacao;
+
+    public Tetromino(TipoTetromino tipo, Posicao posicao) {
+        Objects.requireNonNull(posicao, "Posição inicial não pode ser nula.");
+        this.tipo = Objects.requireNonNull(tipo, "Tipo do Tetromino não pode ser nulo.");
+        this.x = posicao.getX();
+        this.y = posicao.getY();
+        this.rotacao = 0;
+    }
+
+    // --- Forma e Índice de Cor (delegados ao flyweight do tipo) ---
+
+    public boolean[][] getForma() {
+        return tipo.getForma(rotacao);
+    }
+
+    public FormaPeca getFormaPrecalculada(int rotacao) {
+        return tipo.getFormaPrecalculada(rotacao);
+    }
+
+    /**
+     * Forma pré-calculada da rotação atual (somente células ocupadas).
+     */
+    public FormaPeca getFormaPrecalculada() {
+        return tipo.getFormaPrecalculada(rotacao);
+    }
+
+    public int getIndiceCor() {
+        return tipo.getIndiceCor();
+    }
+
+    public int getTotalRotacoes() {
+        return tipo.getTotalRotacoes();
+    }
+
+    // --- Lógica Comum ---
+
+    public void mover(int deltaX, int deltaY) {
+        this.x += deltaX;
+        this.y += deltaY;
+    }
+
+    public void rotacionar() {
+        this.rotacao = getProximaRotacao();
+    }
+
+    // Rotação que a peça assumiria ao rotacionar (para testar antes de aplicar)
+    public int getProximaRotacao() {
+        return (rotacao + 1) % tipo.getTotalRotacoes();
+    }
+
+    /**
+     * Reaproveita esta instância como uma nova peça do tipo informado,
+     * na posição de nascimento e sem rotação (evita alocar a cada peça).
+     */
+    public void reiniciar(TipoTetromino novoTipo) {
+        this.tipo = Objects.requireNonNull(novoTipo, "Tipo do Tetromino não pode ser nulo.");
+        this.x = SPAWN_X;
+        this.y = SPAWN_Y;
+        this.rotacao = 0;
+    }
+
+    public TipoTetromino getTipo() {
+        return tipo;
+    }
+
+    // --- Factory Determinística ---
+
+    // Método original (mantido, mas não recomendado para Partida)
+    public static Tetromino criarTetrominoAleatorio() {
+        // Usa uma nova instância de Random sem semente
+        return criarTetrominoAleatorio(new Random());
+    }
+
+    /**
+     * NOVO: Factory que aceita uma instância de Random (semeada ou não).
+     * Essencial para garantir a reproducibilidade (replay) se for usada uma semente fixa.
+     */
+    public static Tetromino criarTetrominoAleatorio(Random random) {
+        return new Tetromino(TipoTetromino.sortear(random), new Posicao(SPAWN_X, SPAWN_Y));
+    }
+
+    // --- Getters ---
+
+    // Cria um Posicao a cada chamada: no caminho crítico prefira getX()/getY()
+    public Posicao getPosicao() {
+        return new Posicao(x, y);
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getRotacao() {
+        return rotacao;
+    }
+}
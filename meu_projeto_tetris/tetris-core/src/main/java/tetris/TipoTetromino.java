@@ -1,22 +1,24 @@
 package tetris;
 
 import java.util.Objects;
-import javafx.scene.paint.Color; 
+import java.util.Random;
 
 /**
- * Enum que define as formas, rotações e cores de cada Tetromino.
+ * Enum que define as formas, rotações e o índice de cor de cada Tetromino.
  * Todas as formas são padronizadas em matrizes para facilitar a colisão.
+ * É a única fonte das formas: cada constante funciona como flyweight
+ * compartilhado por todas as peças daquele tipo.
  */
 public enum TipoTetromino {
 
-    I(Color.CYAN, new boolean[][][]{
+    I(new boolean[][][]{
     // Rotação 0: 1x4
     {{true, true, true, true}}, 
     // Rotação 1: 4x1
     {{true}, {true}, {true}, {true}} 
     }),
 
-    O(Color.YELLOW, new boolean[][][]{
+    O(new boolean[][][]{
         // Rotação 0
         {
             {false, true,  true,  false},
@@ -26,7 +28,7 @@ public enum TipoTetromino {
         }
     }),
 
-    T(Color.PURPLE, new boolean[][][]{
+    T(new boolean[][][]{
         // Rotação 0 (Topo para cima)
         {
             {false, true,  false, false},
@@ -57,7 +59,7 @@ public enum TipoTetromino {
         }
     }),
 
-    S(Color.GREEN, new boolean[][][]{
+    S(new boolean[][][]{
         // Rotação 0
         {
             {false, true,  true,  false},
@@ -74,7 +76,7 @@ public enum TipoTetromino {
         }
     }),
 
-    Z(Color.RED, new boolean[][][]{
+    Z(new boolean[][][]{
         // Rotação 0
         {
             {true,  true,  false, false},
@@ -91,7 +93,7 @@ public enum TipoTetromino {
         }
     }),
 
-    J(Color.BLUE, new boolean[][][]{
+    J(new boolean[][][]{
         // Rotação 0
         {
             {true,  false, false, false},
@@ -122,53 +124,74 @@ public enum TipoTetromino {
         }
     }),
 
-    L(Color.ORANGE, new boolean[][][]{
+    L(new boolean[][][]{
         // Rotação 0
         {
-            {false, false, true},
-            {true,  true,  true},
-            {false, false, false}
-            
+            {false, false, true,  false},
+            {true,  true,  true,  false},
+            {false, false, false, false},
+            {false, false, false, false}
         },
         // Rotação 1
         {
-            {false, true,  false},
-            {false, true,  false},
-            {false, true,  true}
-            
+            {false, true,  false, false},
+            {false, true,  false, false},
+            {false, true,  true,  false},
+            {false, false, false, false}
         },
         // Rotação 2
         {
-            {true,  true,  true},
-            {true,  false, false},
-            {false, false, false}
+            {false, false, false, false},
+            {true,  true,  true,  false},
+            {true,  false, false, false},
+            {false, false, false, false}
         },
         // Rotação 3
         {
-            {true,  true,  false},
-            {false, true,  false},
-            {false, true,  false}
-        
+            {true,  true,  false, false},
+            {false, true,  false, false},
+            {false, true,  false, false},
+            {false, false, false, false}
         }
     });
 
     private final boolean[][][] formas;
-    private final Color cor;
+    // Tabela pré-calculada: máscaras por linha, caixa delimitadora e células de cada rotação
+    private final FormaPeca[] formasPrecalculadas;
 
-    TipoTetromino(Color cor, boolean[][][] formas) {
-        this.cor = cor;
+    TipoTetromino(boolean[][][] formas) {
         this.formas = Objects.requireNonNull(formas, "Formas do Tetromino não pode ser nulo.");
+        this.formasPrecalculadas = FormaPeca.precalcular(formas);
     }
 
     public boolean[][] getForma(int rotacao) {
         return formas[rotacao % formas.length];
     }
 
+    public FormaPeca getFormaPrecalculada(int rotacao) {
+        return formasPrecalculadas[rotacao % formasPrecalculadas.length];
+    }
+
     public int getTotalRotacoes() {
         return formas.length;
     }
 
-    public Color getCor() {
-        return cor;
+    /**
+     * Índice da cor na paleta (1..7). O núcleo não conhece cores de toolkit:
+     * a camada de UI traduz o índice (ver PaletaCores).
+     */
+    public int getIndiceCor() {
+        return ordinal() + 1;
+    }
+
+    // Cache de values(): evita clonar o array a cada peça sorteada
+    private static final TipoTetromino[] TIPOS = values();
+
+    /**
+     * Sorteia um tipo usando o gerador informado (semeado para replay).
+     * A ordem I, O, T, S, Z, J, L preserva a sequência das partidas antigas.
+     */
+    public static TipoTetromino sortear(Random random) {
+        return TIPOS[random.nextInt(TIPOS.length)];
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package tetris.render;
+
+import java.util.Arrays;
+
+import tetris.FormaPeca;
+import tetris.QuadroJogo;
+import tetris.Tabuleiro;
+
+/**
+ * Rasteriza um QuadroJogo (fundo, pilha, peça fantasma e peça em queda) num
+ * int[] de pixels ARGB pré-multiplicados, linha a linha (y * largura + x).
+ * Não depende de JavaFX nem de GraphicsContext: pode rodar em qualquer
+ * thread e ser medido em benchmark sem tela. Mesmo visual dos sprites do
+ * cliente: bloco preenchido com borda interna, borda cinza-escura nos
+ * blocos fixos e branca na peça, fantasma translúcido.
+ *
+ * Uma instância não é thread-safe (reaproveita o fundo); use uma por thread
+ * de renderização.
+ */
+public final class RasterizadorQuadro {
+
+    private static final int COR_FUNDO_PADRAO = 0xFF000000;
+    private static final int COR_BORDA_FIXO = 0xFF595959; // Color.GRAY.darker()
+    private static final int COR_BORDA_PECA = 0xFFFFFFFF;
+    private static final int COR_FLASH_LIGADO = 0xFFFF0000;
+    private static final int COR_FLASH_DESLIGADO = 0xFF808080;
+    // Opacidade do preenchimento da peça fantasma, em 1/256
+    private static final int ALFA_FANTASMA = 77; // ~0.3
+
+    private final int tamanhoBloco;
+    private final int largura;
+    private final int altura;
+    private final int larguraBorda;
+    private final int[] paleta;
+    private final int[] fundo;
+
+    /**
+     * @param paletaArgb cor ARGB opaca por índice de cor do Tabuleiro (TOTAL_CORES entradas);
+     *        as cores de verdade ficam no cliente (PaletaCores)
+     */
+    public RasterizadorQuadro(int tamanhoBloco, int[] paletaArgb) {
+        if (tamanhoBloco <= 0) {
+            throw new IllegalArgumentException("Tamanho de bloco inválido: " + tamanhoBloco);
+        }
+        if (paletaArgb.length != Tabuleiro.TOTAL_CORES) {
+            throw new IllegalArgumentException("Paleta deve ter " + Tabuleiro.TOTAL_CORES + " cores: " + paletaArgb.length);
+        }
+        this.tamanhoBloco = tamanhoBloco;
+        this.largura = Tabuleiro.LARGURA * tamanhoBloco;
+        this.altura = Tabuleiro.ALTURA * tamanhoBloco;
+        this.larguraBorda = tamanhoBloco >= 20 ? 2 : 1;
+        this.paleta = paletaArgb.clone();
+        this.fundo = new int[largura * altura];
+        Arrays.fill(fundo, COR_FUNDO_PADRAO);
+    }
+
+    /**
+     * Define a imagem de fundo (ARGB pré-multiplicado, largura x altura,
+     * opaca), copiada antes de cada quadro. O padrão é preto.
+     */
+    public void setFundo(int[] pixels) {
+        if (pixels.length != fundo.length) {
+            throw new IllegalArgumentException("Fundo deve ter " + largura + "x" + altura + " pixels");
+        }
+        System.arraycopy(pixels, 0, fundo, 0, fundo.length);
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public int getAltura() {
+        return altura;
+    }
+
+    /**
+     * Desenha o quadro inteiro em destino (largura * altura pixels).
+     */
+    public void rasterizar(QuadroJogo quadro, int[] destino) {
+        if (destino.length < fundo.length) {
+            throw new IllegalArgumentException("Destino menor que " + largura + "x" + altura);
+        }
+        System.arraycopy(fundo, 0, destino, 0, fundo.length);
+
+        // Pilha (ou o piscar das linhas em remoção)
+        boolean flashLigado = quadro.getTicksAnimacao() % 2 == 1;
+        for (int y = 0; y < Tabuleiro.ALTURA; y++) {
+            boolean animando = quadro.isLinhaParaRemover(y);
+            for (int x = 0; x < Tabuleiro.LARGURA; x++) {
+                int indiceCor = quadro.getIndiceCor(x, y);
+                if (indiceCor == Tabuleiro.COR_VAZIA) continue;
+                int cor = animando ? (flashLigado ? COR_FLASH_LIGADO : COR_FLASH_DESLIGADO) : paleta[indiceCor];
+                pintarBloco(destino, x, y, cor, 256, COR_BORDA_FIXO);
+            }
+        }
+
+        if (!quadro.temPeca()) {
+            return;
+        }
+        int cor = paleta[quadro.getIndiceCorPeca()];
+        // Fantasma primeiro: a peça é desenhada por cima quando se tocam
+        if (quadro.getYFantasma() > quadro.getYPeca() && !quadro.isGameOver()) {
+            pintarForma(destino, quadro.getFormaPeca(), quadro.getXPeca(), quadro.getYFantasma(), cor, ALFA_FANTASMA);
+        }
+        pintarForma(destino, quadro.getFormaPeca(), quadro.getXPeca(), quadro.getYPeca(), cor, 256);
+    }
+
+    private void pintarForma(int[] destino, FormaPeca forma, int xPeca, int yPeca, int cor, int alfa) {
+        int[] celulasX = forma.getCelulasX();
+        int[] celulasY = forma.getCelulasY();
+        for (int c = 0; c < celulasX.length; c++) {
+            int x = xPeca + celulasX[c];
+            int y = yPeca + celulasY[c];
+            if (x >= 0 && x < Tabuleiro.LARGURA && y >= 0 && y < Tabuleiro.ALTURA) {
+                pintarBloco(destino, x, y, cor, alfa, COR_BORDA_PECA);
+            }
+        }
+    }
+
+    // Bloco na célula (x, y): preenchimento (com opacidade alfa/256) e borda interna opaca
+    private void pintarBloco(int[] destino, int x, int y, int cor, int alfa, int corBorda) {
+        int x0 = x * tamanhoBloco;
+        int y0 = y * tamanhoBloco;
+        int limite = tamanhoBloco - larguraBorda;
+        for (int dy = 0; dy < tamanhoBloco; dy++) {
+            int base = (y0 + dy) * largura + x0;
+            boolean linhaBorda = dy < larguraBorda || dy >= limite;
+            for (int dx = 0; dx < tamanhoBloco; dx++) {
+                if (linhaBorda || dx < larguraBorda || dx >= limite) {
+                    destino[base + dx] = corBorda;
+                } else if (alfa >= 256) {
+                    destino[base + dx] = cor;
+                } else {
+                    destino[base + dx] = misturar(cor, destino[base + dx], alfa);
+                }
+            }
+        }
+    }
+
+    // cor * alfa + fundo * (1 - alfa), por canal; o fundo é opaco, então o resultado também
+    private static int misturar(int cor, int fundo, int alfa) {
+        int inverso = 256 - alfa;
+        int r = (((cor >> 16) & 0xFF) * alfa + ((fundo >> 16) & 0xFF) * inverso) >> 8;
+        int g = (((cor >> 8) & 0xFF) * alfa + ((fundo >> 8) & 0xFF) * inverso) >> 8;
+        int b = ((cor & 0xFF) * alfa + (fundo & 0xFF) * inverso) >> 8;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+}
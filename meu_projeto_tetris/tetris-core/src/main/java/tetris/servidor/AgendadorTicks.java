@@ -0,0 +1,304 @@
+package tetris.servidor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Agendador compartilhado de passos de partida (gravidade, ticks da animação
+ * de linhas e lixo de nível), no lugar de um laço com sleep por partida.
+ *
+ * Roda de tempo com hash (hashed timing wheel): uma única thread avança a
+ * roda a cada DURACAO_TICK e entrega os passos vencidos a um pool pequeno de
+ * workers, que chamam SessaoPartida.executarPasso() e reagendam conforme o
+ * intervalo devolvido. Agendar e expirar custam O(1) independentemente do
+ * número de partidas. Os pedidos de agendamento chegam por uma fila sem
+ * lock e só a thread da roda mexe nos baldes.
+ *
+ * Cada sessão tem no máximo um passo em execução: o estado (agendada,
+ * executando, estacionada por pausa, finalizada) é controlado por CAS e cada
+ * entrada carrega uma geração, de modo que entradas antigas (substituídas
+ * por um retomar()/parar()) são descartadas ao vencer.
+ */
+public final class AgendadorTicks implements AutoCloseable {
+
+    public static final long DURACAO_TICK_MS = 10L;
+    // 512 baldes x 10 ms = 5,12 s por volta: todos os intervalos de queda cabem em uma volta
+    private static final int TAMANHO_RODA = 512;
+
+    private static final int AGENDADA = 0;
+    private static final int EXECUTANDO = 1;
+    private static final int ESTACIONADA = 2;
+    private static final int FINALIZADA = 3;
+
+    // Limites (ms) das faixas do histograma de atraso; a última faixa é "acima de 100 ms"
+    private static final long[] FAIXAS_ATRASO_MS = { 1, 2, 5, 10, 20, 50, 100 };
+
+    private final long duracaoTickNanos;
+    private final int mascara;
+    private final Entrada[] baldes;
+    private final ConcurrentLinkedQueue<Entrada> pendentes = new ConcurrentLinkedQueue<>();
+    private final ExecutorService workers;
+    private final int totalWorkers;
+    private final Thread threadRoda;
+    private final long inicioNanos;
+    private volatile boolean rodando = true;
+    private long tickAtual; // só a thread da roda lê/escreve
+
+    // --- MÉTRICAS ---
+    private final AtomicInteger sessoesAtivas = new AtomicInteger();
+    private final LongAdder passosExecutados = new LongAdder();
+    private final LongAdder somaAtrasoNanos = new LongAdder();
+    private final AtomicLong atrasoMaximoNanos = new AtomicLong();
+    private final LongAdder[] histogramaAtraso = new LongAdder[FAIXAS_ATRASO_MS.length + 1];
+
+    public AgendadorTicks() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public AgendadorTicks(int totalWorkers) {
+        this(totalWorkers, DURACAO_TICK_MS);
+    }
+
+    public AgendadorTicks(int totalWorkers, long duracaoTickMs) {
+        if (totalWorkers <= 0 || duracaoTickMs <= 0) {
+            throw new IllegalArgumentException("totalWorkers e duracaoTickMs devem ser positivos");
+        }
+        this.duracaoTickNanos = TimeUnit.MILLISECONDS.toNanos(duracaoTickMs);
+        this.mascara = TAMANHO_RODA - 1;
+        this.baldes = new Entrada[TAMANHO_RODA];
+        for (int i = 0; i < histogramaAtraso.length; i++) {
+            histogramaAtraso[i] = new LongAdder();
+        }
+
+        AtomicInteger numero = new AtomicInteger();
+        this.totalWorkers = totalWorkers;
+        this.workers = Executors.newFixedThreadPool(totalWorkers, r -> {
+            Thread t = new Thread(r, "agendador-worker-" + numero.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.inicioNanos = System.nanoTime();
+        this.threadRoda = new Thread(this::girarRoda, "agendador-roda");
+        this.threadRoda.setDaemon(true);
+        this.threadRoda.start();
+    }
+
+    // --- REGISTRO DE SESSÕES ---
+
+    /**
+     * Passa a conduzir a sessão: o primeiro passo vence no próximo tick.
+     * aoTerminar (opcional) é chamado uma vez, num worker, quando a sessão acaba.
+     */
+    public void agendar(SessaoPartida sessao, Consumer<SessaoPartida> aoTerminar) {
+        if (!rodando) {
+            throw new IllegalStateException("Agendador encerrado");
+        }
+        Registro registro = new Registro(sessao, aoTerminar);
+        sessao.setDespertador(() -> acordar(registro));
+        sessoesAtivas.incrementAndGet();
+        reagendar(registro, 0);
+    }
+
+    private void reagendar(Registro registro, long esperaMs) {
+        long geracao = registro.geracao.incrementAndGet();
+        registro.estado.set(AGENDADA);
+        pendentes.add(new Entrada(registro, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMs), geracao));
+    }
+
+    /**
+     * retomar()/parar(): uma sessão estacionada volta para a roda; uma sessão
+     * já agendada ganha uma entrada imediata (a antiga fica obsoleta).
+     * Se um passo estiver executando, o worker trata o novo estado ao terminar.
+     */
+    private void acordar(Registro registro) {
+        if (registro.estado.compareAndSet(ESTACIONADA, AGENDADA)) {
+            long geracao = registro.geracao.incrementAndGet();
+            pendentes.add(new Entrada(registro, System.nanoTime(), geracao));
+        } else if (registro.estado.get() == AGENDADA) {
+            long geracao = registro.geracao.incrementAndGet();
+            pendentes.add(new Entrada(registro, System.nanoTime(), geracao));
+        }
+    }
+
+    // --- RODA ---
+
+    private void girarRoda() {
+        while (rodando) {
+            // O balde do tick t é processado no instante inicio + t * tick
+            long instanteTick = inicioNanos + tickAtual * duracaoTickNanos;
+            long espera = instanteTick - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(this, espera);
+                continue; // acordes espúrios: recalcula a espera
+            }
+            transferirPendentes();
+            expirarBalde((int) (tickAtual & mascara));
+            tickAtual++;
+        }
+    }
+
+    // Coloca cada pedido pendente no balde do tick em que vence
+    private void transferirPendentes() {
+        Entrada entrada;
+        while ((entrada = pendentes.poll()) != null) {
+            long tickVencimento = Math.max(tickAtual,
+                    (entrada.prazoNanos - inicioNanos + duracaoTickNanos - 1) / duracaoTickNanos);
+            entrada.voltas = (tickVencimento - tickAtual) / TAMANHO_RODA;
+            int indice = (int) (tickVencimento & mascara);
+            entrada.proxima = baldes[indice];
+            baldes[indice] = entrada;
+        }
+    }
+
+    // Despacha as entradas vencidas; as de voltas futuras permanecem no balde
+    private void expirarBalde(int indice) {
+        Entrada entrada = baldes[indice];
+        Entrada sobreviventes = null;
+        while (entrada != null) {
+            Entrada proxima = entrada.proxima;
+            if (entrada.voltas > 0) {
+                entrada.voltas--;
+                entrada.proxima = sobreviventes;
+                sobreviventes = entrada;
+            } else {
+                entrada.proxima = null;
+                despachar(entrada);
+            }
+            entrada = proxima;
+        }
+        baldes[indice] = sobreviventes;
+    }
+
+    private void despachar(Entrada entrada) {
+        Registro registro = entrada.registro;
+        if (entrada.geracao != registro.geracao.get()) {
+            return; // substituída por um agendamento mais recente
+        }
+        if (!registro.estado.compareAndSet(AGENDADA, EXECUTANDO)) {
+            return;
+        }
+        try {
+            workers.execute(() -> executar(registro, entrada.prazoNanos));
+        } catch (RejectedExecutionException e) {
+            registro.estado.set(FINALIZADA); // agendador encerrando
+        }
+    }
+
+    // --- WORKERS ---
+
+    private void executar(Registro registro, long prazoNanos) {
+        registrarAtraso(System.nanoTime() - prazoNanos);
+        SessaoPartida sessao = registro.sessao;
+
+        long esperaMs;
+        try {
+            esperaMs = sessao.executarPasso();
+        } catch (RuntimeException e) {
+            System.err.println("Erro no passo da sessão " + sessao.getId() + ": " + e.getMessage());
+            sessao.parar();
+            esperaMs = SessaoPartida.FIM;
+        }
+        passosExecutados.increment();
+
+        if (esperaMs == SessaoPartida.FIM) {
+            finalizar(registro);
+        } else if (esperaMs == SessaoPartida.PAUSADA) {
+            registro.estado.set(ESTACIONADA);
+            // retomar()/parar() pode ter chegado durante o passo
+            if (!sessao.isPausada() || !sessao.isAtiva()) {
+                acordar(registro);
+            }
+        } else {
+            reagendar(registro, esperaMs);
+        }
+    }
+
+    private void finalizar(Registro registro) {
+        registro.estado.set(FINALIZADA);
+        registro.sessao.setDespertador(null);
+        sessoesAtivas.decrementAndGet();
+        if (registro.aoTerminar != null) {
+            try {
+                registro.aoTerminar.accept(registro.sessao);
+            } catch (RuntimeException e) {
+                System.err.println("Erro no encerramento da sessão " + registro.sessao.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void registrarAtraso(long atrasoNanos) {
+        long atraso = Math.max(0, atrasoNanos);
+        somaAtrasoNanos.add(atraso);
+        atrasoMaximoNanos.accumulateAndGet(atraso, Math::max);
+        long atrasoMs = TimeUnit.NANOSECONDS.toMillis(atraso);
+        int faixa = 0;
+        while (faixa < FAIXAS_ATRASO_MS.length && atrasoMs >= FAIXAS_ATRASO_MS[faixa]) {
+            faixa++;
+        }
+        histogramaAtraso[faixa].increment();
+    }
+
+    // --- MÉTRICAS ---
+
+    /**
+     * Retrato das métricas de atraso (quanto depois do prazo cada passo
+     * começou a executar) e de carga do agendador.
+     */
+    public MetricasAgendador getMetricas() {
+        long[] histograma = new long[histogramaAtraso.length];
+        for (int i = 0; i < histograma.length; i++) {
+            histograma[i] = histogramaAtraso[i].sum();
+        }
+        return new MetricasAgendador(sessoesAtivas.get(), passosExecutados.sum(), somaAtrasoNanos.sum(),
+                atrasoMaximoNanos.get(), FAIXAS_ATRASO_MS.clone(), histograma, totalWorkers);
+    }
+
+    public int getSessoesAtivas() {
+        return sessoesAtivas.get();
+    }
+
+    @Override
+    public void close() {
+        rodando = false;
+        LockSupport.unpark(threadRoda);
+        workers.shutdown();
+    }
+
+    // --- ESTRUTURAS INTERNAS ---
+
+    private static final class Registro {
+        final SessaoPartida sessao;
+        final Consumer<SessaoPartida> aoTerminar;
+        final AtomicInteger estado = new AtomicInteger(AGENDADA);
+        final AtomicLong geracao = new AtomicLong();
+
+        Registro(SessaoPartida sessao, Consumer<SessaoPartida> aoTerminar) {
+            this.sessao = sessao;
+            this.aoTerminar = aoTerminar;
+        }
+    }
+
+    // Entrada da roda: lista encadeada simples dentro do balde
+    private static final class Entrada {
+        final Registro registro;
+        final long prazoNanos;
+        final long geracao;
+        long voltas;
+        Entrada proxima;
+
+        Entrada(Registro registro, long prazoNanos, long geracao) {
+            this.registro = registro;
+            this.prazoNanos = prazoNanos;
+            this.geracao = geracao;
+        }
+    }
+}
\ No newline at end of file
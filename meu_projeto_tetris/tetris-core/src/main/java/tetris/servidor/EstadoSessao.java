@@ -0,0 +1,79 @@
+package tetris.servidor;
+
+/**
+ * Retrato imutável de uma sessão, devolvido pela inspeção do HostPartidas.
+ */
+public final class EstadoSessao {
+    private final String id;
+    private final String jogador;
+    private final int pontuacao;
+    private final int nivel;
+    private final int linhas;
+    private final int pecas;
+    private final boolean pausada;
+    private final boolean ativa;
+    private final boolean gameOver;
+    private final long criadaEm;
+
+    public EstadoSessao(String id, String jogador, int pontuacao, int nivel, int linhas, int pecas,
+            boolean pausada, boolean ativa, boolean gameOver, long criadaEm) {
+        this.id = id;
+        this.jogador = jogador;
+        this.pontuacao = pontuacao;
+        this.nivel = nivel;
+        this.linhas = linhas;
+        this.pecas = pecas;
+        this.pausada = pausada;
+        this.ativa = ativa;
+        this.gameOver = gameOver;
+        this.criadaEm = criadaEm;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJogador() {
+        return jogador;
+    }
+
+    public int getPontuacao() {
+        return pontuacao;
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    public int getLinhas() {
+        return linhas;
+    }
+
+    public int getPecas() {
+        return pecas;
+    }
+
+    public boolean isPausada() {
+        return pausada;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // Instante de criação da sessão (System.currentTimeMillis)
+    public long getCriadaEm() {
+        return criadaEm;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Sessao{id=%s, jogador='%s', pontuacao=%d, nivel=%d, linhas=%d, pecas=%d, %s}",
+                id, jogador, pontuacao, nivel, linhas, pecas,
+                gameOver ? "GAME OVER" : !ativa ? "parada" : pausada ? "pausada" : "jogando");
+    }
+}
\ No newline at end of file
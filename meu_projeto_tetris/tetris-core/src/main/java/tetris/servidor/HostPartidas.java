@@ -0,0 +1,149 @@
+package tetris.servidor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import tetris.Jogador;
+import tetris.Partida;
+
+/**
+ * Hospeda muitas partidas simultâneas no mesmo processo. Por padrão cada
+ * SessaoPartida roda na sua própria thread virtual: uma sessão custa
+ * basicamente a Partida (alguns KB) e uma pilha virtual pequena, o que
+ * permite dezenas de milhares de partidas vivas sem dezenas de milhares de
+ * threads do sistema. Com um AgendadorTicks, nenhuma sessão tem thread: os
+ * passos de todas são disparados pela roda de tempo num pool pequeno.
+ *
+ * O registro é indexado pelo id da partida. Sessões encerradas (game over
+ * ou paradas) saem do registro e são entregues ao callback aoEncerrar, que
+ * é o lugar para persistir o resultado.
+ */
+public class HostPartidas implements AutoCloseable {
+
+    private final ConcurrentHashMap<String, SessaoPartida> sessoes = new ConcurrentHashMap<>();
+    private final ThreadFactory fabricaThreads = Thread.ofVirtual().name("partida-", 0).factory();
+    private final Consumer<SessaoPartida> aoEncerrar;
+    // null: uma thread virtual por sessão
+    private final AgendadorTicks agendador;
+
+    public HostPartidas() {
+        this(null, null);
+    }
+
+    public HostPartidas(Consumer<SessaoPartida> aoEncerrar) {
+        this(null, aoEncerrar);
+    }
+
+    public HostPartidas(AgendadorTicks agendador, Consumer<SessaoPartida> aoEncerrar) {
+        this.agendador = agendador;
+        this.aoEncerrar = aoEncerrar;
+    }
+
+    // --- CICLO DE VIDA ---
+
+    public SessaoPartida iniciar(Jogador jogador) {
+        return iniciar(UUID.randomUUID().toString(), jogador, System.nanoTime());
+    }
+
+    /**
+     * Cria a partida e inicia sua sessão (thread virtual ou agendador).
+     *
+     * @throws IllegalStateException se já houver uma sessão com o mesmo id
+     */
+    public SessaoPartida iniciar(String id, Jogador jogador, long semente) {
+        SessaoPartida sessao = new SessaoPartida(id, new Partida(id, jogador, semente));
+        if (sessoes.putIfAbsent(id, sessao) != null) {
+            throw new IllegalStateException("Já existe uma sessão com o id " + id);
+        }
+        if (agendador != null) {
+            agendador.agendar(sessao, this::encerrada);
+            return sessao;
+        }
+        fabricaThreads.newThread(() -> {
+            try {
+                sessao.run();
+            } finally {
+                encerrada(sessao);
+            }
+        }).start();
+        return sessao;
+    }
+
+    private void encerrada(SessaoPartida sessao) {
+        sessoes.remove(sessao.getId(), sessao);
+        if (aoEncerrar != null) {
+            try {
+                aoEncerrar.accept(sessao);
+            } catch (RuntimeException e) {
+                System.err.println("Erro no encerramento da sessão " + sessao.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // --- CONTROLE (retornam false quando a sessão não existe) ---
+
+    public boolean parar(String id) {
+        SessaoPartida sessao = sessoes.get(id);
+        if (sessao == null) return false;
+        sessao.parar();
+        return true;
+    }
+
+    public boolean pausar(String id) {
+        SessaoPartida sessao = sessoes.get(id);
+        if (sessao == null) return false;
+        sessao.pausar();
+        return true;
+    }
+
+    public boolean retomar(String id) {
+        SessaoPartida sessao = sessoes.get(id);
+        if (sessao == null) return false;
+        sessao.retomar();
+        return true;
+    }
+
+    // --- INSPEÇÃO ---
+
+    /**
+     * Sessão viva com o id informado, ou null (inexistente ou já encerrada).
+     */
+    public SessaoPartida getSessao(String id) {
+        return sessoes.get(id);
+    }
+
+    /**
+     * Estado atual da sessão, ou null se ela não estiver no registro.
+     */
+    public EstadoSessao inspecionar(String id) {
+        SessaoPartida sessao = sessoes.get(id);
+        return sessao == null ? null : sessao.inspecionar();
+    }
+
+    public List<EstadoSessao> listar() {
+        List<EstadoSessao> estados = new ArrayList<>(sessoes.size());
+        for (SessaoPartida sessao : sessoes.values()) {
+            estados.add(sessao.inspecionar());
+        }
+        return estados;
+    }
+
+    public int getTotalSessoes() {
+        return sessoes.size();
+    }
+
+    /**
+     * Para todas as sessões. As threads terminam logo em seguida e cada
+     * sessão passa normalmente pelo callback de encerramento.
+     */
+    @Override
+    public void close() {
+        for (SessaoPartida sessao : sessoes.values()) {
+            sessao.parar();
+        }
+    }
+}
\ No newline at end of file
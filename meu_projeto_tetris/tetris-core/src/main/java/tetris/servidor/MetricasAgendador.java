@@ -0,0 +1,84 @@
+package tetris.servidor;
+
+/**
+ * Retrato imutável das métricas do AgendadorTicks. "Atraso" é quanto tempo
+ * depois do prazo um passo começou a executar num worker: inclui a
+ * granularidade do tick e a espera na fila do pool (sinal de saturação).
+ */
+public final class MetricasAgendador {
+    private final int sessoesAtivas;
+    private final long passosExecutados;
+    private final long somaAtrasoNanos;
+    private final long atrasoMaximoNanos;
+    private final long[] faixasAtrasoMs;
+    private final long[] histogramaAtraso;
+    private final int totalWorkers;
+
+    MetricasAgendador(int sessoesAtivas, long passosExecutados, long somaAtrasoNanos, long atrasoMaximoNanos,
+            long[] faixasAtrasoMs, long[] histogramaAtraso, int totalWorkers) {
+        this.sessoesAtivas = sessoesAtivas;
+        this.passosExecutados = passosExecutados;
+        this.somaAtrasoNanos = somaAtrasoNanos;
+        this.atrasoMaximoNanos = atrasoMaximoNanos;
+        this.faixasAtrasoMs = faixasAtrasoMs;
+        this.histogramaAtraso = histogramaAtraso;
+        this.totalWorkers = totalWorkers;
+    }
+
+    public int getSessoesAtivas() {
+        return sessoesAtivas;
+    }
+
+    public long getPassosExecutados() {
+        return passosExecutados;
+    }
+
+    public int getTotalWorkers() {
+        return totalWorkers;
+    }
+
+    public double getAtrasoMedioMs() {
+        return passosExecutados == 0 ? 0 : somaAtrasoNanos / 1_000_000.0 / passosExecutados;
+    }
+
+    public double getAtrasoMaximoMs() {
+        return atrasoMaximoNanos / 1_000_000.0;
+    }
+
+    /**
+     * Limite superior (ms) da faixa do histograma que contém o percentil p
+     * (0..100); Long.MAX_VALUE quando cai na última faixa (acima do maior limite).
+     */
+    public long getPercentilAtrasoMs(double p) {
+        long alvo = (long) Math.ceil(p / 100.0 * passosExecutados);
+        long acumulado = 0;
+        for (int i = 0; i < histogramaAtraso.length; i++) {
+            acumulado += histogramaAtraso[i];
+            if (acumulado >= alvo && acumulado > 0) {
+                return i < faixasAtrasoMs.length ? faixasAtrasoMs[i] : Long.MAX_VALUE;
+            }
+        }
+        return 0;
+    }
+
+    // Contagens por faixa: [0] < faixas[0] ms, [i] < faixas[i] ms, último >= maior faixa
+    public long[] getHistogramaAtraso() {
+        return histogramaAtraso.clone();
+    }
+
+    public long[] getFaixasAtrasoMs() {
+        return faixasAtrasoMs.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder faixas = new StringBuilder();
+        for (int i = 0; i < histogramaAtraso.length; i++) {
+            if (i > 0) faixas.append(' ');
+            faixas.append(i < faixasAtrasoMs.length ? "<" + faixasAtrasoMs[i] : ">=" + faixasAtrasoMs[i - 1])
+                    .append("ms=").append(histogramaAtraso[i]);
+        }
+        return String.format("Agendador{sessoes=%d, workers=%d, passos=%d, atrasoMedio=%.2fms, atrasoMax=%.2fms, [%s]}",
+                sessoesAtivas, totalWorkers, passosExecutados, getAtrasoMedioMs(), getAtrasoMaximoMs(), faixas);
+    }
+}
\ No newline at end of file
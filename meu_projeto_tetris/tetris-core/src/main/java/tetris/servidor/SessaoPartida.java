@@ -0,0 +1,209 @@
+package tetris.servidor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import tetris.Partida;
+
+/**
+ * Controlador headless de uma partida no servidor: mesma sequência de
+ * eventos do GameController (queda automática, animação de linhas e lixo de
+ * nível), sem JavaFX, áudio ou banco.
+ *
+ * A lógica fica em executarPasso(), que avança um passo e devolve quanto
+ * esperar até o próximo; run() apenas repete o passo e estaciona a thread
+ * (pensado para thread virtual: a espera não prende thread do sistema).
+ * Pausar/retomar/parar acordam a thread imediatamente. Alternativamente,
+ * o AgendadorTicks chama executarPasso() a partir de um pool compartilhado.
+ */
+public class SessaoPartida implements Runnable {
+
+    /** Retorno de executarPasso(): a sessão terminou (game over ou parada). */
+    public static final long FIM = -1L;
+    /** Retorno de executarPasso(): pausada, sem próximo passo até retomar(). */
+    public static final long PAUSADA = Long.MAX_VALUE;
+
+    // Mesmos tempos da animação de linha do cliente JavaFX
+    static final int TICKS_ANIMACAO = 3;
+    static final long INTERVALO_ANIMACAO_MS = 150L;
+
+    private final String id;
+    private final Partida partida;
+    private final long criadaEm;
+
+    private volatile boolean ativa = true;
+    private volatile boolean pausada = false;
+    private volatile Thread thread;
+    // Quando a sessão é conduzida pelo AgendadorTicks (sem thread própria)
+    private volatile Runnable despertador;
+
+    // Estado do laço: só é tocado por quem executa os passos
+    private int animacaoTicks = 0;
+    private long passos = 0;
+
+    public SessaoPartida(String id, Partida partida) {
+        this.id = id;
+        this.partida = partida;
+        this.criadaEm = System.currentTimeMillis();
+    }
+
+    // --- LAÇO ---
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        try {
+            while (true) {
+                long esperaMs = executarPasso();
+                if (esperaMs == FIM) {
+                    break;
+                }
+                if (esperaMs == PAUSADA) {
+                    LockSupport.park(this);
+                } else if (esperaMs > 0) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(esperaMs));
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    ativa = false;
+                }
+            }
+        } finally {
+            ativa = false;
+            thread = null;
+        }
+    }
+
+    /**
+     * Avança a partida um passo e retorna o intervalo (ms) até o próximo,
+     * FIM quando a sessão acabou ou PAUSADA enquanto estiver pausada.
+     * Não deve ser chamado concorrentemente para a mesma sessão.
+     */
+    public long executarPasso() {
+        if (!ativa || partida.isGameOver()) {
+            ativa = false;
+            return FIM;
+        }
+        if (pausada) {
+            return PAUSADA;
+        }
+        passos++;
+
+        // Animação de linhas: a remoção real acontece no último tick
+        if (animacaoTicks > 0) {
+            animacaoTicks--;
+            if (animacaoTicks == 0) {
+                partida.concluirRemocaoLinhas();
+            }
+            return INTERVALO_ANIMACAO_MS;
+        }
+
+        partida.processarQueda();
+        if (partida.temLinhasMarcadas()) {
+            animacaoTicks = TICKS_ANIMACAO;
+        }
+        if (partida.consumeLevelUp()) {
+            partida.aplicarLixoDoNivel();
+        }
+        if (partida.isGameOver()) {
+            ativa = false;
+            return FIM;
+        }
+        return partida.getIntervaloQuedaMs();
+    }
+
+    // --- CONTROLE ---
+
+    public void pausar() {
+        pausada = true;
+    }
+
+    public void retomar() {
+        if (pausada) {
+            pausada = false;
+            acordar();
+        }
+    }
+
+    public void parar() {
+        ativa = false;
+        acordar();
+    }
+
+    private void acordar() {
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+        Runnable d = despertador;
+        if (d != null) {
+            d.run();
+        }
+    }
+
+    // Usado pelo AgendadorTicks para ser avisado de retomar()/parar()
+    void setDespertador(Runnable despertador) {
+        this.despertador = despertador;
+    }
+
+    // --- COMANDOS DO JOGADOR (thread-safe: a Partida é sincronizada) ---
+
+    public boolean moverEsquerda() {
+        return podeJogar() && partida.moverTetromino(-1, 0);
+    }
+
+    public boolean moverDireita() {
+        return podeJogar() && partida.moverTetromino(1, 0);
+    }
+
+    public boolean moverBaixo() {
+        return podeJogar() && partida.moverTetromino(0, 1);
+    }
+
+    public boolean girar() {
+        return podeJogar() && partida.rotacionarTetromino();
+    }
+
+    public void soltar() {
+        if (podeJogar()) {
+            partida.soltarTetromino();
+            partida.processarQueda();
+        }
+    }
+
+    private boolean podeJogar() {
+        return ativa && !pausada;
+    }
+
+    // --- INSPEÇÃO ---
+
+    /**
+     * Retrato consistente da partida (lido sob o lock da Partida).
+     */
+    public EstadoSessao inspecionar() {
+        synchronized (partida) {
+            return new EstadoSessao(id, partida.getJogador().getNome(), partida.getPontuacao(),
+                    partida.getNivel(), partida.getTotalLinhas(), partida.getPecasFixadas(),
+                    pausada, ativa, partida.isGameOver(), criadaEm);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Partida getPartida() {
+        return partida;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    public boolean isPausada() {
+        return pausada;
+    }
+
+    public long getPassos() {
+        return passos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package tetris.sim;
+
+/**
+ * Decisão de uma política para a peça atual: rotação final e coluna (x do
+ * Tetromino) onde ela deve ser solta. Objeto mutável reaproveitado a cada
+ * peça para que a simulação não aloque no caminho crítico.
+ */
+public final class Jogada {
+    private int rotacao;
+    private int x;
+
+    public void definir(int rotacao, int x) {
+        this.rotacao = rotacao;
+        this.x = x;
+    }
+
+    public int getRotacao() {
+        return rotacao;
+    }
+
+    public int getX() {
+        return x;
+    }
+}
\ No newline at end of file
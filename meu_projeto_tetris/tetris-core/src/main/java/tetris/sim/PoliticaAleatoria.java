@@ -0,0 +1,31 @@
+package tetris.sim;
+
+import java.util.Random;
+
+import tetris.FormaPeca;
+import tetris.Partida;
+import tetris.Tabuleiro;
+import tetris.Tetromino;
+
+/**
+ * Rotação e coluna sorteadas (dentro das paredes). Serve de linha de base:
+ * partidas curtas e pontuação baixa.
+ */
+public class PoliticaAleatoria implements PoliticaEntrada {
+    private final Random random = new Random();
+
+    @Override
+    public void iniciarPartida(long semente) {
+        random.setSeed(~semente);
+    }
+
+    @Override
+    public void decidir(Partida partida, Jogada jogada) {
+        Tetromino peca = partida.getTetrominoAtual();
+        int rotacao = random.nextInt(peca.getTotalRotacoes());
+        FormaPeca forma = peca.getFormaPrecalculada(rotacao);
+        int minX = -forma.getMinX();
+        int colunas = Tabuleiro.LARGURA - forma.getLarguraUtil() + 1;
+        jogada.definir(rotacao, minX + random.nextInt(colunas));
+    }
+}
\ No newline at end of file
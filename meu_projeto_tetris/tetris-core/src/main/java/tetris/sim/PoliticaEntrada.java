@@ -0,0 +1,23 @@
+package tetris.sim;
+
+import tetris.Partida;
+
+/**
+ * Jogador automático usado pelo SimuladorLote. Cada thread do simulador
+ * tem a sua instância (criada por um Supplier), então implementações podem
+ * guardar estado de trabalho sem sincronização.
+ */
+public interface PoliticaEntrada {
+
+    /**
+     * Chamado antes de cada partida com a semente dela; políticas com
+     * aleatoriedade devem derivar o próprio gerador daqui (determinismo).
+     */
+    default void iniciarPartida(long semente) {
+    }
+
+    /**
+     * Escolhe rotação e coluna para a peça atual da partida.
+     */
+    void decidir(Partida partida, Jogada jogada);
+}
\ No newline at end of file
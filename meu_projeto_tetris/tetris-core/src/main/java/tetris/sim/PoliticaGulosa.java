@@ -0,0 +1,65 @@
+package tetris.sim;
+
+import tetris.FormaPeca;
+import tetris.Partida;
+import tetris.Posicao;
+import tetris.Tabuleiro;
+import tetris.Tetromino;
+import tetris.TipoTetromino;
+
+/**
+ * Testa todas as rotações/colunas da peça atual num tabuleiro de rascunho e
+ * fica com a de melhor avaliação (altura agregada, linhas completas, buracos
+ * e irregularidade, com os pesos clássicos de bots de Tetris de uma peça).
+ * Não olha a próxima peça.
+ */
+public class PoliticaGulosa implements PoliticaEntrada {
+    private static final double PESO_ALTURA = -0.510066;
+    private static final double PESO_LINHAS = 0.760666;
+    private static final double PESO_BURACOS = -0.35663;
+    private static final double PESO_IRREGULARIDADE = -0.184483;
+
+    // Rascunho reaproveitado: nenhuma alocação por avaliação
+    private final Tabuleiro rascunho = new Tabuleiro();
+    private final Tetromino pecaTeste = new Tetromino(TipoTetromino.O, new Posicao(0, 0));
+
+    @Override
+    public void decidir(Partida partida, Jogada jogada) {
+        Tabuleiro tabuleiro = partida.getTabuleiro();
+        Tetromino peca = partida.getTetrominoAtual();
+        int y = peca.getY();
+
+        double melhorNota = Double.NEGATIVE_INFINITY;
+        jogada.definir(peca.getRotacao(), peca.getX());
+        for (int r = 0; r < peca.getTotalRotacoes(); r++) {
+            FormaPeca forma = peca.getFormaPrecalculada(r);
+            for (int x = -forma.getMinX(); x + forma.getMaxX() < Tabuleiro.LARGURA; x++) {
+                if (!tabuleiro.posicaoValida(forma, x, y)) continue;
+                double nota = avaliar(tabuleiro, peca, r, x, y + tabuleiro.distanciaQueda(forma, x, y));
+                if (nota > melhorNota) {
+                    melhorNota = nota;
+                    jogada.definir(r, x);
+                }
+            }
+        }
+    }
+
+    private double avaliar(Tabuleiro tabuleiro, Tetromino peca, int rotacao, int x, int yPouso) {
+        rascunho.copiarDe(tabuleiro);
+        pecaTeste.reiniciar(peca.getTipo());
+        for (int r = 0; r < rotacao; r++) {
+            pecaTeste.rotacionar();
+        }
+        pecaTeste.mover(x - pecaTeste.getX(), yPouso - pecaTeste.getY());
+        rascunho.fixarTetromino(pecaTeste);
+
+        int linhas = rascunho.eliminarLinhasCompletas();
+        if (linhas > 0) {
+            rascunho.executarRemocaoReal();
+        }
+        return PESO_ALTURA * rascunho.getSomaAlturas()
+                + PESO_LINHAS * linhas
+                + PESO_BURACOS * rascunho.contarBuracos()
+                + PESO_IRREGULARIDADE * rascunho.getIrregularidade();
+    }
+}
\ No newline at end of file
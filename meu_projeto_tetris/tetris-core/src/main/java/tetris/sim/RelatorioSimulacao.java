@@ -0,0 +1,107 @@
+package tetris.sim;
+
+import java.util.Arrays;
+
+/**
+ * Resumo de um lote: vazão (partidas/s e peças/s) e distribuição das
+ * pontuações (média, mínimo, máximo e percentis).
+ */
+public final class RelatorioSimulacao {
+    private final int partidas;
+    private final long pecas;
+    private final long linhas;
+    private final int gameOvers;
+    private final long duracaoNanos;
+    private final int paralelismo;
+    // Pontuações ordenadas (para percentis)
+    private final int[] pontuacoes;
+
+    RelatorioSimulacao(int[] pontuacoes, long pecas, long linhas, int gameOvers, long duracaoNanos, int paralelismo) {
+        this.pontuacoes = pontuacoes.clone();
+        Arrays.sort(this.pontuacoes);
+        this.partidas = pontuacoes.length;
+        this.pecas = pecas;
+        this.linhas = linhas;
+        this.gameOvers = gameOvers;
+        this.duracaoNanos = duracaoNanos;
+        this.paralelismo = paralelismo;
+    }
+
+    public int getPartidas() {
+        return partidas;
+    }
+
+    public long getPecas() {
+        return pecas;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    public int getGameOvers() {
+        return gameOvers;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    public double getPartidasPorSegundo() {
+        return porSegundo(partidas);
+    }
+
+    public double getPecasPorSegundo() {
+        return porSegundo(pecas);
+    }
+
+    private double porSegundo(double quantidade) {
+        return duracaoNanos == 0 ? 0 : quantidade * 1_000_000_000.0 / duracaoNanos;
+    }
+
+    public double getPontuacaoMedia() {
+        if (partidas == 0) return 0;
+        long soma = 0;
+        for (int p : pontuacoes) {
+            soma += p;
+        }
+        return (double) soma / partidas;
+    }
+
+    public int getPontuacaoMinima() {
+        return partidas == 0 ? 0 : pontuacoes[0];
+    }
+
+    public int getPontuacaoMaxima() {
+        return partidas == 0 ? 0 : pontuacoes[partidas - 1];
+    }
+
+    /**
+     * Percentil da pontuação (método do posto mais próximo), p entre 0 e 100.
+     */
+    public int getPercentil(double p) {
+        if (partidas == 0) return 0;
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("Percentil fora de 0..100: " + p);
+        }
+        int posto = (int) Math.ceil(p / 100.0 * partidas);
+        return pontuacoes[Math.max(0, posto - 1)];
+    }
+
+    @Override
+    public String toString() {
+        double segundos = duracaoNanos / 1_000_000_000.0;
+        return String.format(
+                "%d partidas em %.2f s (%d threads): %.1f partidas/s, %.0f pecas/s%n"
+                        + "pecas=%d linhas=%d gameOvers=%d%n"
+                        + "pontuacao: media=%.1f min=%d p50=%d p90=%d p99=%d max=%d",
+                partidas, segundos, paralelismo, getPartidasPorSegundo(), getPecasPorSegundo(),
+                pecas, linhas, gameOvers,
+                getPontuacaoMedia(), getPontuacaoMinima(), getPercentil(50), getPercentil(90),
+                getPercentil(99), getPontuacaoMaxima());
+    }
+}
\ No newline at end of file
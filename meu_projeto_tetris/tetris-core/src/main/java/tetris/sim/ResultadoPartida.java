@@ -0,0 +1,61 @@
+package tetris.sim;
+
+/**
+ * Resultado de uma partida simulada. A semente basta para reproduzir a
+ * partida inteira (mesma política, mesmo limite de peças).
+ */
+public final class ResultadoPartida {
+    private final long semente;
+    private final int pontuacao;
+    private final int linhas;
+    private final int nivel;
+    private final int pecas;
+    private final boolean gameOver;
+
+    public ResultadoPartida(long semente, int pontuacao, int linhas, int nivel, int pecas, boolean gameOver) {
+        this.semente = semente;
+        this.pontuacao = pontuacao;
+        this.linhas = linhas;
+        this.nivel = nivel;
+        this.pecas = pecas;
+        this.gameOver = gameOver;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public int getPontuacao() {
+        return pontuacao;
+    }
+
+    public int getLinhas() {
+        return linhas;
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    public int getPecas() {
+        return pecas;
+    }
+
+    // false quando a partida parou por atingir o limite de peças
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Linha CSV: semente;pontuacao;linhas;nivel;pecas;gameOver
+     */
+    public String paraCsv() {
+        return semente + ";" + pontuacao + ";" + linhas + ";" + nivel + ";" + pecas + ";" + gameOver;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoPartida{semente=" + semente + ", pontuacao=" + pontuacao + ", linhas=" + linhas
+                + ", nivel=" + nivel + ", pecas=" + pecas + ", gameOver=" + gameOver + "}";
+    }
+}
\ No newline at end of file
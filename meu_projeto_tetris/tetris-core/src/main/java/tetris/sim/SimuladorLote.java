@@ -0,0 +1,219 @@
+package tetris.sim;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import tetris.Jogador;
+import tetris.Partida;
+import tetris.Tetromino;
+
+/**
+ * Joga lotes de partidas semeadas em paralelo (fork-join), sem relógio:
+ * cada peça é decidida pela política, solta e fixada na hora, e as linhas
+ * completas são removidas sem a animação da UI. A partida i do lote usa a
+ * semente primeiraSemente + i, então qualquer resultado pode ser reproduzido
+ * isoladamente (inclusive as linhas de lixo, sorteadas pela própria Partida).
+ *
+ * Cada tarefa folha reaproveita uma Partida, uma política e uma Jogada para
+ * todas as sementes da sua faixa (Partida.reiniciar), então o custo por
+ * partida é praticamente só o do motor.
+ */
+public class SimuladorLote {
+    // Partidas por tarefa folha: grande o bastante para diluir a criação do
+    // contexto, pequena o bastante para balancear entre os núcleos
+    private static final int PARTIDAS_POR_TAREFA = 64;
+
+    private final Supplier<? extends PoliticaEntrada> fabricaPolitica;
+    private final int limitePecas;
+    private final int paralelismo;
+
+    public SimuladorLote(Supplier<? extends PoliticaEntrada> fabricaPolitica, int limitePecas) {
+        this(fabricaPolitica, limitePecas, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SimuladorLote(Supplier<? extends PoliticaEntrada> fabricaPolitica, int limitePecas, int paralelismo) {
+        if (limitePecas <= 0 || paralelismo <= 0) {
+            throw new IllegalArgumentException("limitePecas e paralelismo devem ser positivos");
+        }
+        this.fabricaPolitica = fabricaPolitica;
+        this.limitePecas = limitePecas;
+        this.paralelismo = paralelismo;
+    }
+
+    public RelatorioSimulacao executar(long primeiraSemente, int partidas) {
+        return executar(primeiraSemente, partidas, null);
+    }
+
+    /**
+     * Executa o lote. Cada resultado é entregue a aoTerminar assim que a
+     * partida termina (em qualquer thread e fora de ordem): o consumidor
+     * precisa ser thread-safe. Pode ser null quando só o resumo interessa.
+     */
+    public RelatorioSimulacao executar(long primeiraSemente, int partidas, Consumer<ResultadoPartida> aoTerminar) {
+        if (partidas < 0) {
+            throw new IllegalArgumentException("Número de partidas inválido: " + partidas);
+        }
+        Lote lote = new Lote(fabricaPolitica, limitePecas, primeiraSemente, partidas, aoTerminar);
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        long inicio = System.nanoTime();
+        try {
+            pool.invoke(new TarefaLote(lote, 0, partidas));
+        } finally {
+            pool.shutdown();
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        return new RelatorioSimulacao(lote.pontuacoes, lote.pecas.sum(), lote.linhas.sum(),
+                lote.gameOvers.intValue(), duracao, paralelismo);
+    }
+
+    // Parâmetros e estado compartilhado do lote: cada tarefa escreve apenas a sua faixa de pontuacoes
+    private static final class Lote {
+        final Supplier<? extends PoliticaEntrada> fabricaPolitica;
+        final int limitePecas;
+        final long primeiraSemente;
+        final int[] pontuacoes;
+        final Consumer<ResultadoPartida> aoTerminar;
+        final LongAdder pecas = new LongAdder();
+        final LongAdder linhas = new LongAdder();
+        final LongAdder gameOvers = new LongAdder();
+
+        Lote(Supplier<? extends PoliticaEntrada> fabricaPolitica, int limitePecas, long primeiraSemente, int partidas,
+                Consumer<ResultadoPartida> aoTerminar) {
+            this.fabricaPolitica = fabricaPolitica;
+            this.limitePecas = limitePecas;
+            this.primeiraSemente = primeiraSemente;
+            this.pontuacoes = new int[partidas];
+            this.aoTerminar = aoTerminar;
+        }
+    }
+
+    // RecursiveAction é Serializable, mas as tarefas nunca são serializadas
+    @SuppressWarnings("serial")
+    private static final class TarefaLote extends RecursiveAction {
+        private final Lote lote;
+        private final int inicio;
+        private final int fim;
+
+        TarefaLote(Lote lote, int inicio, int fim) {
+            this.lote = lote;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio > PARTIDAS_POR_TAREFA) {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new TarefaLote(lote, inicio, meio), new TarefaLote(lote, meio, fim));
+                return;
+            }
+            if (inicio == fim) return;
+
+            Partida partida = new Partida("SIM", new Jogador("SIM"), lote.primeiraSemente + inicio);
+            PoliticaEntrada politica = lote.fabricaPolitica.get();
+            Jogada jogada = new Jogada();
+            long pecas = 0;
+            long linhas = 0;
+            int gameOvers = 0;
+
+            for (int i = inicio; i < fim; i++) {
+                long semente = lote.primeiraSemente + i;
+                partida.reiniciar(semente);
+                politica.iniciarPartida(semente);
+                jogarPartida(partida, politica, jogada, lote.limitePecas);
+
+                lote.pontuacoes[i] = partida.getPontuacao();
+                pecas += partida.getPecasFixadas();
+                linhas += partida.getTotalLinhas();
+                if (partida.isGameOver()) gameOvers++;
+                if (lote.aoTerminar != null) {
+                    lote.aoTerminar.accept(new ResultadoPartida(semente, partida.getPontuacao(),
+                            partida.getTotalLinhas(), partida.getNivel(), partida.getPecasFixadas(),
+                            partida.isGameOver()));
+                }
+            }
+            lote.pecas.add(pecas);
+            lote.linhas.add(linhas);
+            lote.gameOvers.add(gameOvers);
+        }
+    }
+
+    // --- EXECUÇÃO DE UMA PARTIDA ---
+
+    /**
+     * Joga a partida até o game over ou até limitePecas peças fixadas.
+     */
+    public static void jogarPartida(Partida partida, PoliticaEntrada politica, Jogada jogada, int limitePecas) {
+        while (!partida.isGameOver() && partida.getPecasFixadas() < limitePecas) {
+            politica.decidir(partida, jogada);
+            aplicar(partida, jogada);
+        }
+    }
+
+    /**
+     * Executa a jogada com os mesmos comandos do jogador (girar, andar coluna
+     * a coluna, soltar), fixa a peça e aplica remoção de linhas e lixo de nível.
+     */
+    public static void aplicar(Partida partida, Jogada jogada) {
+        Tetromino peca = partida.getTetrominoAtual();
+        for (int giros = 0; peca.getRotacao() != jogada.getRotacao() && giros < peca.getTotalRotacoes(); giros++) {
+            if (!partida.rotacionarTetromino()) break;
+        }
+        int passo = Integer.signum(jogada.getX() - peca.getX());
+        while (peca.getX() != jogada.getX() && partida.moverTetromino(passo, 0)) {
+            // anda uma coluna por vez até o destino ou até bater
+        }
+
+        int linhasAntes = partida.getTotalLinhas();
+        partida.soltarTetromino();
+        partida.processarQueda(); // já está no ponto de contato: fixa e sorteia a próxima
+        if (partida.getTotalLinhas() != linhasAntes) {
+            partida.concluirRemocaoLinhas();
+        }
+        if (partida.consumeLevelUp()) {
+            partida.aplicarLixoDoNivel();
+        }
+    }
+
+    // --- LINHA DE COMANDO ---
+
+    /**
+     * Uso: SimuladorLote [partidas] [gulosa|aleatoria] [primeiraSemente] [limitePecas] [--csv]
+     * Com --csv imprime uma linha por partida (ResultadoPartida.paraCsv) na
+     * saída padrão; o resumo sempre vai para a saída de erro.
+     */
+    public static void main(String[] args) {
+        int partidas = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        String nomePolitica = args.length > 1 ? args[1] : "gulosa";
+        long primeiraSemente = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int limitePecas = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+        boolean csv = args.length > 4 && args[4].equals("--csv");
+
+        Supplier<PoliticaEntrada> fabrica = switch (nomePolitica) {
+            case "gulosa" -> PoliticaGulosa::new;
+            case "aleatoria" -> PoliticaAleatoria::new;
+            default -> throw new IllegalArgumentException("Política desconhecida: " + nomePolitica);
+        };
+
+        Consumer<ResultadoPartida> saida = null;
+        if (csv) {
+            System.out.println("semente;pontuacao;linhas;nivel;pecas;gameOver");
+            saida = r -> {
+                String linha = r.paraCsv();
+                synchronized (System.out) {
+                    System.out.println(linha);
+                }
+            };
+        }
+
+        RelatorioSimulacao relatorio = new SimuladorLote(fabrica, limitePecas)
+                .executar(primeiraSemente, partidas, saida);
+        System.err.println("Política: " + nomePolitica + ", limite de peças: " + limitePecas);
+        System.err.println(relatorio);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,300 @@
+package tetris;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara o Tabuleiro (bitboard com paredes, contadores por linha, topo das
+ * colunas e buracos mantidos incrementalmente) com um tabuleiro de
+ * referência ingênuo, uma matriz de cores recalculada do zero a cada
+ * consulta, depois de cada fixação, marcação, remoção e linha de lixo.
+ */
+class TabuleiroTest {
+
+    private static final int LARGURA = Tabuleiro.LARGURA;
+    private static final int ALTURA = Tabuleiro.ALTURA;
+
+    /** Tabuleiro de referência: só a matriz de cores, tudo o mais é contado na hora. */
+    private static final class TabuleiroIngenuo {
+        final int[][] cores = new int[ALTURA][LARGURA];
+        final boolean[] marcadas = new boolean[ALTURA];
+
+        boolean cabe(FormaPeca forma, int x, int y) {
+            for (int c = 0; c < forma.getTotalCelulas(); c++) {
+                int cx = x + forma.getCelulasX()[c];
+                int cy = y + forma.getCelulasY()[c];
+                if (cx < 0 || cx >= LARGURA || cy >= ALTURA) {
+                    return false;
+                }
+                if (cy >= 0 && cores[cy][cx] != Tabuleiro.COR_VAZIA) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int distanciaQueda(FormaPeca forma, int x, int y) {
+            int distancia = 0;
+            while (cabe(forma, x, y + distancia + 1)) {
+                distancia++;
+            }
+            return distancia;
+        }
+
+        void fixar(FormaPeca forma, int x, int y, int cor) {
+            for (int c = 0; c < forma.getTotalCelulas(); c++) {
+                int cy = y + forma.getCelulasY()[c];
+                if (cy >= 0 && cy < ALTURA) {
+                    cores[cy][x + forma.getCelulasX()[c]] = cor;
+                }
+            }
+        }
+
+        int marcarCompletas() {
+            int completas = 0;
+            for (int y = 0; y < ALTURA; y++) {
+                if (preenchimento(y) == LARGURA) {
+                    marcadas[y] = true;
+                    completas++;
+                }
+            }
+            return completas;
+        }
+
+        void removerMarcadas() {
+            int[][] novas = new int[ALTURA][LARGURA];
+            int destino = ALTURA - 1;
+            for (int y = ALTURA - 1; y >= 0; y--) {
+                if (!marcadas[y]) {
+                    novas[destino--] = cores[y].clone();
+                }
+                marcadas[y] = false;
+            }
+            for (int y = 0; y < ALTURA; y++) {
+                cores[y] = novas[y];
+            }
+        }
+
+        void adicionarLixo(int buraco) {
+            for (int y = 0; y < ALTURA - 1; y++) {
+                cores[y] = cores[y + 1];
+                marcadas[y] = marcadas[y + 1];
+            }
+            cores[ALTURA - 1] = new int[LARGURA];
+            for (int x = 0; x < LARGURA; x++) {
+                cores[ALTURA - 1][x] = x == buraco ? Tabuleiro.COR_VAZIA : Tabuleiro.COR_LIXO;
+            }
+            marcadas[ALTURA - 1] = false;
+        }
+
+        int preenchimento(int y) {
+            int total = 0;
+            for (int x = 0; x < LARGURA; x++) {
+                if (cores[y][x] != Tabuleiro.COR_VAZIA) {
+                    total++;
+                }
+            }
+            return total;
+        }
+
+        int alturaColuna(int x) {
+            for (int y = 0; y < ALTURA; y++) {
+                if (cores[y][x] != Tabuleiro.COR_VAZIA) {
+                    return ALTURA - y;
+                }
+            }
+            return 0;
+        }
+
+        int buracos() {
+            int buracos = 0;
+            for (int x = 0; x < LARGURA; x++) {
+                boolean coberta = false;
+                for (int y = 0; y < ALTURA; y++) {
+                    if (cores[y][x] != Tabuleiro.COR_VAZIA) {
+                        coberta = true;
+                    } else if (coberta) {
+                        buracos++;
+                    }
+                }
+            }
+            return buracos;
+        }
+    }
+
+    private static void assertMesmoEstado(TabuleiroIngenuo esperado, Tabuleiro tabuleiro, String contexto) {
+        int soma = 0;
+        int maxima = 0;
+        int irregularidade = 0;
+        boolean algum = false;
+        for (int x = 0; x < LARGURA; x++) {
+            int h = esperado.alturaColuna(x);
+            assertEquals(h, tabuleiro.getAlturaColuna(x), contexto + ": altura da coluna " + x);
+            soma += h;
+            maxima = Math.max(maxima, h);
+            if (x > 0) {
+                irregularidade += Math.abs(h - esperado.alturaColuna(x - 1));
+            }
+        }
+        for (int y = 0; y < ALTURA; y++) {
+            assertEquals(esperado.preenchimento(y), tabuleiro.getPreenchimentoLinha(y),
+                    contexto + ": preenchimento da linha " + y);
+            assertEquals(esperado.marcadas[y], tabuleiro.getLinhasParaRemover()[y], contexto + ": marca da linha " + y);
+            for (int x = 0; x < LARGURA; x++) {
+                int cor = esperado.cores[y][x];
+                algum |= cor != Tabuleiro.COR_VAZIA;
+                assertEquals(cor, tabuleiro.getIndiceCor(x, y), contexto + ": cor em " + x + "," + y);
+                assertEquals(cor != Tabuleiro.COR_VAZIA, tabuleiro.temBloco(x, y), contexto + ": bloco em " + x + "," + y);
+            }
+        }
+        assertEquals(soma, tabuleiro.getSomaAlturas(), contexto + ": soma das alturas");
+        assertEquals(maxima, tabuleiro.getAlturaMaxima(), contexto + ": altura máxima");
+        assertEquals(irregularidade, tabuleiro.getIrregularidade(), contexto + ": irregularidade");
+        assertEquals(esperado.buracos(), tabuleiro.contarBuracos(), contexto + ": buracos");
+        assertEquals(algum, tabuleiro.temBlocosFixos(), contexto + ": tem blocos fixos");
+    }
+
+    @Test
+    void jogadasAleatoriasBatemComAReferencia() {
+        for (long semente = 1; semente <= 20; semente++) {
+            jogarAleatoriamente(semente, 400);
+        }
+    }
+
+    // Peças soltas em rotação e coluna sorteadas, com lixo de vez em quando; recomeça quando não cabe mais
+    private static void jogarAleatoriamente(long semente, int pecas) {
+        Random sorteio = new Random(semente);
+        Random lixoTabuleiro = new Random(semente * 31);
+        Random lixoReferencia = new Random(semente * 31);
+        Tabuleiro tabuleiro = new Tabuleiro();
+        TabuleiroIngenuo esperado = new TabuleiroIngenuo();
+        Tetromino peca = new Tetromino(TipoTetromino.I, new Posicao(0, 0));
+
+        for (int i = 0; i < pecas; i++) {
+            String contexto = "semente " + semente + ", peça " + i;
+            peca.reiniciar(TipoTetromino.sortear(sorteio));
+            int rotacoes = sorteio.nextInt(peca.getTotalRotacoes());
+            for (int r = 0; r < rotacoes; r++) {
+                peca.rotacionar();
+            }
+            FormaPeca forma = peca.getFormaPrecalculada();
+            int x = sorteio.nextInt(LARGURA - forma.getMaxX() + forma.getMinX()) - forma.getMinX();
+            int y = -forma.getMinY();
+            peca.mover(x - peca.getX(), y - peca.getY());
+
+            assertEquals(esperado.cabe(forma, x, y), tabuleiro.posicaoValida(peca), contexto + ": posição válida");
+            if (!tabuleiro.posicaoValida(peca)) {
+                tabuleiro.limpar();
+                esperado = new TabuleiroIngenuo();
+                assertMesmoEstado(esperado, tabuleiro, contexto + " (limpo)");
+                continue;
+            }
+
+            int distancia = tabuleiro.distanciaQueda(forma, x, y);
+            assertEquals(esperado.distanciaQueda(forma, x, y), distancia, contexto + ": distância de queda");
+            peca.mover(0, distancia);
+            tabuleiro.fixarTetromino(peca);
+            esperado.fixar(forma, x, y + distancia, peca.getIndiceCor());
+            assertMesmoEstado(esperado, tabuleiro, contexto + " (fixada)");
+
+            assertEquals(esperado.marcarCompletas(), tabuleiro.eliminarLinhasCompletas(), contexto + ": linhas completas");
+            assertMesmoEstado(esperado, tabuleiro, contexto + " (marcadas)");
+
+            tabuleiro.executarRemocaoReal();
+            esperado.removerMarcadas();
+            assertMesmoEstado(esperado, tabuleiro, contexto + " (removidas)");
+
+            if (sorteio.nextInt(8) == 0) {
+                int linhas = 1 + sorteio.nextInt(2);
+                tabuleiro.addGarbageLines(linhas, lixoTabuleiro);
+                for (int l = 0; l < linhas; l++) {
+                    esperado.adicionarLixo(lixoReferencia.nextInt(LARGURA));
+                }
+                assertMesmoEstado(esperado, tabuleiro, contexto + " (lixo)");
+            }
+        }
+    }
+
+    @Test
+    void linhaCompletaEhMarcadaESoSaiNaRemocaoReal() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+        TabuleiroIngenuo esperado = new TabuleiroIngenuo();
+        // Lixo com buraco na coluna 0 e um I vertical descendo nele
+        tabuleiro.addGarbageLines(1, new Random(0) {
+            @Override
+            public int nextInt(int limite) {
+                return 0;
+            }
+        });
+        esperado.adicionarLixo(0);
+        Tetromino peca = new Tetromino(TipoTetromino.I, new Posicao(0, 0));
+        peca.rotacionar();
+        FormaPeca forma = peca.getFormaPrecalculada();
+        int x = -forma.getMinX();
+        int y = -forma.getMinY();
+        peca.mover(x - peca.getX(), y - peca.getY());
+        int distancia = tabuleiro.distanciaQueda(forma, x, y);
+        peca.mover(0, distancia);
+        tabuleiro.fixarTetromino(peca);
+        esperado.fixar(forma, x, y + distancia, peca.getIndiceCor());
+
+        assertEquals(1, tabuleiro.eliminarLinhasCompletas());
+        esperado.marcarCompletas();
+        assertTrue(tabuleiro.getLinhasParaRemover()[ALTURA - 1]);
+        assertEquals(LARGURA, tabuleiro.getPreenchimentoLinha(ALTURA - 1), "a linha continua até a remoção real");
+        assertMesmoEstado(esperado, tabuleiro, "marcada");
+
+        tabuleiro.executarRemocaoReal();
+        esperado.removerMarcadas();
+        assertFalse(tabuleiro.getLinhasParaRemover()[ALTURA - 1]);
+        assertEquals(3, tabuleiro.getAlturaColuna(0));
+        assertMesmoEstado(esperado, tabuleiro, "removida");
+    }
+
+    @Test
+    void lixoEmpurraBlocosParaForaDoTopo() {
+        Tabuleiro tabuleiro = new Tabuleiro();
+        TabuleiroIngenuo esperado = new TabuleiroIngenuo();
+        Random lixoTabuleiro = new Random(7);
+        Random lixoReferencia = new Random(7);
+
+        // Enche o tabuleiro de lixo até o topo e continua: as linhas de cima saem do tabuleiro
+        for (int i = 0; i < ALTURA + 3; i++) {
+            tabuleiro.addGarbageLines(1, lixoTabuleiro);
+            esperado.adicionarLixo(lixoReferencia.nextInt(LARGURA));
+            assertMesmoEstado(esperado, tabuleiro, "lixo " + i);
+        }
+        assertEquals(ALTURA, tabuleiro.getAlturaMaxima());
+
+        tabuleiro.addGarbageLines(4, lixoTabuleiro);
+        for (int i = 0; i < 4; i++) {
+            esperado.adicionarLixo(lixoReferencia.nextInt(LARGURA));
+        }
+        assertMesmoEstado(esperado, tabuleiro, "lixo em bloco");
+    }
+
+    @Test
+    void copiarDeELimparRestauramTodoOEstado() {
+        Tabuleiro origem = new Tabuleiro();
+        origem.addGarbageLines(3, new Random(3));
+        Tabuleiro copia = new Tabuleiro();
+        copia.copiarDe(origem);
+
+        for (int y = 0; y < ALTURA; y++) {
+            assertEquals(origem.getPreenchimentoLinha(y), copia.getPreenchimentoLinha(y));
+            for (int x = 0; x < LARGURA; x++) {
+                assertEquals(origem.getIndiceCor(x, y), copia.getIndiceCor(x, y));
+            }
+        }
+        assertEquals(origem.contarBuracos(), copia.contarBuracos());
+        assertEquals(origem.getSomaAlturas(), copia.getSomaAlturas());
+
+        copia.limpar();
+        assertMesmoEstado(new TabuleiroIngenuo(), copia, "limpo");
+    }
+}
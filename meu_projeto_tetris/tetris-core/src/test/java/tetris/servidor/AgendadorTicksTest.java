@@ -0,0 +1,222 @@
+package tetris.servidor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.Jogador;
+import tetris.Partida;
+
+class AgendadorTicksTest {
+
+    // Roda de 512 baldes x 1 ms: uma volta dura 512 ms
+    private static final long TICK_MS = 1;
+    private static final long VOLTA_MS = 512 * TICK_MS;
+
+    private AgendadorTicks agendador;
+
+    /**
+     * Sessão com passos roteirizados: o passo n devolve roteiro(n). Registra
+     * o instante de cada passo e falha se dois passos da mesma sessão se
+     * sobrepuserem. Depois de parar(), o passo seguinte devolve FIM, como na
+     * SessaoPartida.
+     */
+    private static class SessaoRoteirizada extends SessaoPartida {
+        final List<Long> instantes = new CopyOnWriteArrayList<>();
+        final AtomicInteger emExecucao = new AtomicInteger();
+        final CountDownLatch terminou = new CountDownLatch(1);
+        final AtomicInteger finalizacoes = new AtomicInteger();
+        private final IntToLongFunction roteiro;
+
+        SessaoRoteirizada(IntToLongFunction roteiro) {
+            super("teste", new Partida("teste", new Jogador("ana"), 1L));
+            this.roteiro = roteiro;
+        }
+
+        @Override
+        public long executarPasso() {
+            if (emExecucao.incrementAndGet() != 1) {
+                throw new AssertionError("dois passos da mesma sessão ao mesmo tempo");
+            }
+            try {
+                if (!isAtiva()) {
+                    return FIM;
+                }
+                int passo = instantes.size();
+                instantes.add(System.nanoTime());
+                return roteiro.applyAsLong(passo);
+            } finally {
+                emExecucao.decrementAndGet();
+            }
+        }
+
+        void aoTerminar(SessaoPartida sessao) {
+            finalizacoes.incrementAndGet();
+            terminou.countDown();
+        }
+
+        long intervaloMs(int de, int ate) {
+            return TimeUnit.NANOSECONDS.toMillis(instantes.get(ate) - instantes.get(de));
+        }
+
+        void esperarFim() throws InterruptedException {
+            assertTrue(terminou.await(10, TimeUnit.SECONDS), "a sessão não terminou");
+        }
+    }
+
+    @AfterEach
+    void fechar() {
+        if (agendador != null) {
+            agendador.close();
+        }
+    }
+
+    @Test
+    void prazoDeMaisDeUmaVoltaEsperaAsVoltasCompletas() throws InterruptedException {
+        agendador = new AgendadorTicks(2, TICK_MS);
+        long esperaMs = 2 * VOLTA_MS + 250;
+        SessaoRoteirizada sessao = new SessaoRoteirizada(passo -> passo == 0 ? esperaMs : SessaoPartida.FIM);
+        agendador.agendar(sessao, sessao::aoTerminar);
+
+        sessao.esperarFim();
+        assertEquals(2, sessao.instantes.size());
+        // Sem as voltas, o passo venceria no mesmo balde 250 ms depois
+        long intervalo = sessao.intervaloMs(0, 1);
+        assertTrue(intervalo >= esperaMs - TICK_MS, "venceu cedo: " + intervalo + " ms");
+        assertTrue(intervalo < esperaMs + 500, "venceu tarde: " + intervalo + " ms");
+        assertEquals(0, agendador.getSessoesAtivas());
+    }
+
+    @Test
+    void reagendamentoTornaAEntradaAntigaObsoleta() throws InterruptedException {
+        agendador = new AgendadorTicks(2, TICK_MS);
+        CountDownLatch primeiroPasso = new CountDownLatch(1);
+        SessaoRoteirizada sessao = new SessaoRoteirizada(passo -> {
+            switch (passo) {
+                case 0:
+                    primeiroPasso.countDown();
+                    return 300;
+                case 1:
+                    return 1_000;
+                default:
+                    return SessaoPartida.FIM;
+            }
+        });
+        agendador.agendar(sessao, sessao::aoTerminar);
+        assertTrue(primeiroPasso.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50); // o worker reagenda (300 ms) logo depois do passo
+
+        // Agendada: retomar() põe uma entrada imediata e a de 300 ms fica obsoleta
+        sessao.pausar();
+        sessao.retomar();
+
+        sessao.esperarFim();
+        assertEquals(3, sessao.instantes.size(), "a entrada obsoleta de 300 ms não pode gerar passo");
+        assertTrue(sessao.intervaloMs(0, 1) < 300, "retomar() não antecipou o passo");
+        assertTrue(sessao.intervaloMs(1, 2) >= 1_000 - TICK_MS);
+    }
+
+    @Test
+    void pararDuranteOPassoFinalizaAoTerminarOPasso() throws InterruptedException {
+        agendador = new AgendadorTicks(2, TICK_MS);
+        CountDownLatch dentroDoPasso = new CountDownLatch(1);
+        CountDownLatch liberarPasso = new CountDownLatch(1);
+        SessaoRoteirizada sessao = new SessaoRoteirizada(passo -> {
+            dentroDoPasso.countDown();
+            try {
+                liberarPasso.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return SessaoPartida.PAUSADA;
+        });
+        agendador.agendar(sessao, sessao::aoTerminar);
+        assertTrue(dentroDoPasso.await(10, TimeUnit.SECONDS));
+
+        // Executando: o despertador não mexe na roda; o worker vê a sessão parada ao estacionar
+        sessao.parar();
+        liberarPasso.countDown();
+
+        sessao.esperarFim();
+        assertEquals(1, sessao.instantes.size());
+        assertEquals(1, sessao.finalizacoes.get());
+        assertEquals(0, agendador.getSessoesAtivas());
+    }
+
+    @Test
+    void retomarDuranteOPassoNaoDeixaASessaoEstacionada() throws InterruptedException {
+        agendador = new AgendadorTicks(2, TICK_MS);
+        CountDownLatch dentroDoPasso = new CountDownLatch(1);
+        CountDownLatch liberarPasso = new CountDownLatch(1);
+        SessaoRoteirizada sessao = new SessaoRoteirizada(passo -> {
+            if (passo > 0) {
+                return SessaoPartida.FIM;
+            }
+            dentroDoPasso.countDown();
+            try {
+                liberarPasso.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return SessaoPartida.PAUSADA;
+        });
+        sessao.pausar();
+        agendador.agendar(sessao, sessao::aoTerminar);
+        assertTrue(dentroDoPasso.await(10, TimeUnit.SECONDS));
+
+        sessao.retomar();
+        liberarPasso.countDown();
+
+        sessao.esperarFim();
+        assertEquals(2, sessao.instantes.size());
+    }
+
+    @Test
+    void muitasSessoesSemPassosSobrepostos() throws InterruptedException {
+        agendador = new AgendadorTicks(4, TICK_MS);
+        SessaoRoteirizada[] sessoes = new SessaoRoteirizada[200];
+        for (int i = 0; i < sessoes.length; i++) {
+            int intervalo = 1 + i % 7;
+            sessoes[i] = new SessaoRoteirizada(passo -> passo < 20 ? intervalo : SessaoPartida.FIM);
+            agendador.agendar(sessoes[i], sessoes[i]::aoTerminar);
+        }
+        for (SessaoRoteirizada sessao : sessoes) {
+            sessao.esperarFim();
+            assertEquals(21, sessao.instantes.size());
+            assertEquals(1, sessao.finalizacoes.get());
+        }
+        assertEquals(0, agendador.getSessoesAtivas());
+        assertEquals(200 * 21, agendador.getMetricas().getPassosExecutados());
+    }
+
+    @Test
+    void closeParaARodaERecusaNovasSessoes() throws InterruptedException {
+        agendador = new AgendadorTicks(2, TICK_MS);
+        CountDownLatch passos = new CountDownLatch(3);
+        SessaoRoteirizada sessao = new SessaoRoteirizada(passo -> {
+            passos.countDown();
+            return 5;
+        });
+        agendador.agendar(sessao, sessao::aoTerminar);
+        assertTrue(passos.await(10, TimeUnit.SECONDS));
+
+        agendador.close();
+        Thread.sleep(50); // um passo que já estava no worker ainda pode terminar
+        int depoisDoClose = sessao.instantes.size();
+        Thread.sleep(200);
+        assertEquals(depoisDoClose, sessao.instantes.size(), "a roda continuou despachando depois do close()");
+
+        SessaoRoteirizada nova = new SessaoRoteirizada(passo -> SessaoPartida.FIM);
+        assertThrows(IllegalStateException.class, () -> agendador.agendar(nova, null));
+    }
+}
@@ -0,0 +1,193 @@
+package tetris;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.stage.Screen;
+
+/**
+ * Atlas de sprites pré-renderizados para um tamanho de bloco: cada cor da
+ * PaletaCores em três estilos (bloco fixo, peça em queda, fantasma), os dois
+ * tons do piscar da remoção de linhas e os textos das sobreposições.
+ *
+ * Tudo é desenhado uma vez num canvas fora da tela e guardado como imagem
+ * (na escala de saída da tela, para não borrar em telas de alta densidade).
+ * Desenhar um bloco vira um único drawImage, sem setFill/setStroke nem
+ * Color alocada por célula. Compartilhado por GamePanel e ScorePanel;
+ * deve ser usado apenas na thread do JavaFX.
+ */
+public final class AtlasBlocos {
+
+    // Linhas do atlas (colunas = índice de cor)
+    private static final int LINHA_FIXO = 0;
+    private static final int LINHA_PECA = 1;
+    private static final int LINHA_FANTASMA = 2;
+    private static final int LINHA_FLASH = 3; // coluna 0 = ligado (vermelho), 1 = desligado (cinza)
+    private static final int TOTAL_LINHAS = 4;
+
+    private static final Color COR_BORDA_FIXO = Color.GRAY.darker();
+    private static final Color COR_BORDA_PECA = Color.WHITE;
+    // Borda desenhada por dentro do bloco: limpar uma célula não apaga a borda da vizinha
+    private static final double LARGURA_BORDA = 1.5;
+    private static final double OPACIDADE_FANTASMA = 0.3;
+
+    private static final Map<Integer, AtlasBlocos> POR_TAMANHO = new HashMap<>();
+
+    private final int tamanhoBloco;
+    private final double escala;
+    private final double tamanhoSprite; // tamanho do bloco em pixels do atlas
+    private final Image imagem;
+    private final Map<String, Rotulo> rotulos = new HashMap<>();
+
+    /**
+     * Atlas do tamanho de bloco informado (criado na primeira vez, depois reaproveitado).
+     */
+    public static AtlasBlocos para(int tamanhoBloco) {
+        return POR_TAMANHO.computeIfAbsent(tamanhoBloco, AtlasBlocos::new);
+    }
+
+    private AtlasBlocos(int tamanhoBloco) {
+        this.tamanhoBloco = tamanhoBloco;
+        this.escala = Math.max(1.0, Screen.getPrimary().getOutputScaleX());
+        this.tamanhoSprite = Math.ceil(tamanhoBloco * escala);
+        this.imagem = renderizar();
+    }
+
+    private Image renderizar() {
+        Canvas canvas = new Canvas(Tabuleiro.TOTAL_CORES * tamanhoSprite, TOTAL_LINHAS * tamanhoSprite);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setLineWidth(LARGURA_BORDA * escala);
+
+        for (int cor = 1; cor < Tabuleiro.TOTAL_CORES; cor++) {
+            Color base = PaletaCores.cor(cor);
+            pintar(gc, cor, LINHA_FIXO, base, COR_BORDA_FIXO);
+            pintar(gc, cor, LINHA_PECA, base, COR_BORDA_PECA);
+            pintar(gc, cor, LINHA_FANTASMA, base.deriveColor(0, 1, 1, OPACIDADE_FANTASMA), COR_BORDA_PECA);
+        }
+        // Pisca entre vermelho/cinza durante a animação de remoção
+        pintar(gc, 0, LINHA_FLASH, Color.RED, COR_BORDA_FIXO);
+        pintar(gc, 1, LINHA_FLASH, Color.GRAY, COR_BORDA_FIXO);
+
+        SnapshotParameters parametros = new SnapshotParameters();
+        parametros.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parametros, null);
+    }
+
+    private void pintar(GraphicsContext gc, int coluna, int linha, Color preenchimento, Color borda) {
+        double x = coluna * tamanhoSprite;
+        double y = linha * tamanhoSprite;
+        double meiaBorda = LARGURA_BORDA * escala / 2;
+        gc.setFill(preenchimento);
+        gc.fillRect(x, y, tamanhoSprite, tamanhoSprite);
+        gc.setStroke(borda);
+        gc.strokeRect(x + meiaBorda, y + meiaBorda, tamanhoSprite - 2 * meiaBorda, tamanhoSprite - 2 * meiaBorda);
+    }
+
+    // --- BLOCOS ---
+
+    /** Bloco fixo da cor informada, com canto superior esquerdo em (px, py). */
+    public void desenharBloco(GraphicsContext gc, int indiceCor, double px, double py) {
+        desenharSprite(gc, indiceCor, LINHA_FIXO, px, py);
+    }
+
+    /** Bloco da peça em queda (borda branca). */
+    public void desenharPeca(GraphicsContext gc, int indiceCor, double px, double py) {
+        desenharSprite(gc, indiceCor, LINHA_PECA, px, py);
+    }
+
+    /** Bloco translúcido da peça fantasma. */
+    public void desenharFantasma(GraphicsContext gc, int indiceCor, double px, double py) {
+        desenharSprite(gc, indiceCor, LINHA_FANTASMA, px, py);
+    }
+
+    /** Bloco de linha em remoção, no tom ligado ou desligado do piscar. */
+    public void desenharFlash(GraphicsContext gc, boolean ligado, double px, double py) {
+        desenharSprite(gc, ligado ? 0 : 1, LINHA_FLASH, px, py);
+    }
+
+    private void desenharSprite(GraphicsContext gc, int coluna, int linha, double px, double py) {
+        gc.drawImage(imagem, coluna * tamanhoSprite, linha * tamanhoSprite, tamanhoSprite, tamanhoSprite,
+                px, py, tamanhoBloco, tamanhoBloco);
+    }
+
+    public int getTamanhoBloco() {
+        return tamanhoBloco;
+    }
+
+    // --- TEXTOS ---
+
+    /**
+     * Texto pré-renderizado (criado na primeira vez e guardado no atlas).
+     * contorno pode ser null.
+     */
+    public Rotulo rotulo(String texto, Font fonte, Color preenchimento, Color contorno, double larguraContorno) {
+        String chave = texto + '|' + fonte.getName() + '|' + fonte.getSize() + '|' + preenchimento + '|' + contorno;
+        Rotulo rotulo = rotulos.get(chave);
+        if (rotulo == null) {
+            rotulo = new Rotulo(texto, fonte, preenchimento, contorno, larguraContorno, escala);
+            rotulos.put(chave, rotulo);
+        }
+        return rotulo;
+    }
+
+    /**
+     * Imagem de um texto com a métrica necessária para posicioná-lo como o
+     * fillText faria (pela linha de base à esquerda ou pelo centro).
+     */
+    public static final class Rotulo {
+        private final Image imagem;
+        private final double largura;
+        private final double altura;
+        private final double margem;
+        private final double ascendente; // topo do texto até a linha de base
+
+        private Rotulo(String texto, Font fonte, Color preenchimento, Color contorno, double larguraContorno,
+                double escala) {
+            Text medida = new Text(texto);
+            medida.setFont(fonte);
+            Bounds limites = medida.getLayoutBounds();
+            this.margem = Math.ceil(larguraContorno) + 1;
+            this.largura = limites.getWidth() + 2 * margem;
+            this.altura = limites.getHeight() + 2 * margem;
+            this.ascendente = -limites.getMinY();
+
+            Canvas canvas = new Canvas(Math.ceil(largura * escala), Math.ceil(altura * escala));
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.scale(escala, escala);
+            gc.setFont(fonte);
+            gc.setTextAlign(TextAlignment.LEFT);
+            gc.setTextBaseline(VPos.BASELINE);
+            if (contorno != null) {
+                gc.setStroke(contorno);
+                gc.setLineWidth(larguraContorno);
+                gc.strokeText(texto, margem, margem + ascendente);
+            }
+            gc.setFill(preenchimento);
+            gc.fillText(texto, margem, margem + ascendente);
+
+            SnapshotParameters parametros = new SnapshotParameters();
+            parametros.setFill(Color.TRANSPARENT);
+            this.imagem = canvas.snapshot(parametros, null);
+        }
+
+        /** Equivale a fillText com alinhamento à esquerda e linha de base em y. */
+        public void desenhar(GraphicsContext gc, double x, double yLinhaBase) {
+            gc.drawImage(imagem, x - margem, yLinhaBase - ascendente - margem, largura, altura);
+        }
+
+        /** Centraliza o texto em (cx, cy). */
+        public void desenharCentralizado(GraphicsContext gc, double cx, double cy) {
+            gc.drawImage(imagem, cx - largura / 2, cy - altura / 2, largura, altura);
+        }
+    }
+}
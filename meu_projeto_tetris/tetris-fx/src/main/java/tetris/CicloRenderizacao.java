@@ -0,0 +1,84 @@
+package tetris;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Laço de renderização preso ao pulso do JavaFX: no máximo um desenho por
+ * pulso, e só quando há algo novo. A thread do jogo apenas publica o
+ * QuadroJogo (QuadroDuplo, com versão); aqui, a cada pulso, o quadro
+ * publicado é retido durante o desenho e a versão
+ * é comparada com a última desenhada. Várias publicações entre dois pulsos
+ * (repetição de tecla, queda + animação) viram um único desenho, e nada é
+ * postado na fila de eventos do JavaFX por movimento.
+ *
+ * Roda inteiramente na thread do JavaFX (start/stop/handle).
+ */
+public class CicloRenderizacao extends AnimationTimer {
+
+    private final GameController controller;
+    private final GamePanel gamePanel;
+    private final ScorePanel scorePanel;
+
+    private long ultimaVersao = -1;
+
+    // --- MÉTRICAS ---
+    private volatile long quadrosRenderizados = 0;
+    private volatile long pulsosSemMudanca = 0;
+    private volatile long versoesAgrupadas = 0; // publicações que nunca chegaram à tela sozinhas
+
+    public CicloRenderizacao(GameController controller, GamePanel gamePanel, ScorePanel scorePanel) {
+        this.controller = controller;
+        this.gamePanel = gamePanel;
+        this.scorePanel = scorePanel;
+    }
+
+    @Override
+    public void handle(long agora) {
+        QuadroJogo quadro = controller.adquirirQuadro();
+        try {
+            desenhar(quadro);
+        } finally {
+            controller.liberarQuadro();
+        }
+    }
+
+    private void desenhar(QuadroJogo quadro) {
+        long versao = quadro.getVersao();
+        boolean mudou = versao != ultimaVersao;
+
+        // Sem versão nova, só redesenha se o painel tiver efeito em andamento (LEVEL UP)
+        if (!mudou && !gamePanel.isAnimando()) {
+            pulsosSemMudanca++;
+            return;
+        }
+        if (mudou && ultimaVersao >= 0 && versao - ultimaVersao > 1) {
+            versoesAgrupadas += versao - ultimaVersao - 1;
+        }
+
+        gamePanel.desenhar(quadro);
+        if (mudou) {
+            scorePanel.desenhar(quadro);
+        }
+        ultimaVersao = versao;
+        quadrosRenderizados++;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        System.out.printf("Renderização: %d quadros desenhados, %d pulsos sem mudança, %d versões agrupadas%n",
+                quadrosRenderizados, pulsosSemMudanca, versoesAgrupadas);
+    }
+
+    public long getQuadrosRenderizados() {
+        return quadrosRenderizados;
+    }
+
+    public long getPulsosSemMudanca() {
+        return pulsosSemMudanca;
+    }
+
+    public long getVersoesAgrupadas() {
+        return versoesAgrupadas;
+    }
+}
@@ -0,0 +1,85 @@
+package tetris;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import tetris.replay.ReplayEventType;
+
+/**
+ * Fila circular sem lock de um produtor e um consumidor (SPSC) para os
+ * comandos do jogador: a thread do JavaFX enfileira (oferecer) e a thread do
+ * jogo drena tudo no início de cada frame (drenar). A entrada não disputa
+ * mais o monitor da Partida com o game loop, e a ordem de drenagem é a ordem
+ * exata em que os comandos são aplicados (e gravados no replay).
+ *
+ * Publicação: o produtor escreve o slot e depois avança a cauda com
+ * lazySet (release); o consumidor lê a cauda (acquire) antes dos slots e
+ * libera o espaço avançando a cabeça do mesmo jeito.
+ */
+final class FilaComandos {
+
+    /** Recebe cada comando drenado, em ordem de chegada. */
+    interface Consumidor {
+        void aceitar(ReplayEventType tipo, long instanteNanos);
+    }
+
+    private final int capacidade;
+    private final int mascara;
+    private final ReplayEventType[] tipos;
+    private final long[] instantes;
+
+    private final AtomicLong cauda = new AtomicLong();  // próxima escrita (só o produtor avança)
+    private final AtomicLong cabeca = new AtomicLong(); // próxima leitura (só o consumidor avança)
+    private long cabecaVista;                           // cópia local do produtor
+    private volatile long descartados;
+
+    FilaComandos(int capacidade) {
+        if (capacidade <= 0 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser potência de 2: " + capacidade);
+        }
+        this.capacidade = capacidade;
+        this.mascara = capacidade - 1;
+        this.tipos = new ReplayEventType[capacidade];
+        this.instantes = new long[capacidade];
+    }
+
+    /**
+     * Produtor: enfileira o comando. Retorna false (e descarta) se a fila
+     * estiver cheia, o que só acontece se o game loop parar de drenar.
+     */
+    boolean oferecer(ReplayEventType tipo, long instanteNanos) {
+        long posicao = cauda.get();
+        if (posicao - cabecaVista >= capacidade) {
+            cabecaVista = cabeca.get();
+            if (posicao - cabecaVista >= capacidade) {
+                descartados++;
+                return false;
+            }
+        }
+        int slot = (int) posicao & mascara;
+        tipos[slot] = tipo;
+        instantes[slot] = instanteNanos;
+        cauda.lazySet(posicao + 1);
+        return true;
+    }
+
+    /**
+     * Consumidor: entrega todos os comandos disponíveis e retorna quantos foram.
+     */
+    int drenar(Consumidor consumidor) {
+        long inicio = cabeca.get();
+        long fim = cauda.get();
+        for (long posicao = inicio; posicao < fim; posicao++) {
+            int slot = (int) posicao & mascara;
+            consumidor.aceitar(tipos[slot], instantes[slot]);
+            tipos[slot] = null;
+        }
+        if (fim != inicio) {
+            cabeca.lazySet(fim);
+        }
+        return (int) (fim - inicio);
+    }
+
+    long getDescartados() {
+        return descartados;
+    }
+}
\ No newline at end of file
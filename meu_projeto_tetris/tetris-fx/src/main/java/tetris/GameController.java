@@ -0,0 +1,559 @@
+package tetris;
+
+import java.util.concurrent.locks.LockSupport;
+import javafx.application.Platform;
+import java.io.IOException;
+import java.sql.SQLException; 
+import java.time.Instant; 
+import java.time.Duration;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.AudioClip;
+import tetris.replay.ReplayData; // IMPORT NECESSÁRIO
+import tetris.replay.ReplayEvent; // IMPORT NECESSÁRIO
+import tetris.replay.ReplayEventType; // IMPORT NECESSÁRIO
+
+/**
+ * Game Controller (GameEngine): Orquestra a execução da Partida em tempo real.
+ * Roda em uma Thread separada para gerenciar a queda automática (Game Loop).
+ */
+public class GameController implements Runnable {
+
+    private final Partida partida;
+    private volatile boolean running = true;
+    private volatile boolean paused = false;
+    // Passo fixo: frames restantes até o próximo passo (queda ou tick de animação)
+    private final TabelaGravidade tabelaGravidade = TabelaGravidade.PADRAO;
+    private int framesAteProximoPasso;
+    private static final int MAX_FRAMES_ATRASADOS = 10;
+    // Métricas de jitter (escritas só pela thread do jogo)
+    private long ultimoPassoNanos = 0;
+    private long intervaloEsperadoNanos = 0;
+    private volatile long somaJitterNanos = 0;
+    private volatile long jitterMaximoNanos = 0;
+    private volatile long amostrasJitter = 0;
+    private long framesDescartados = 0;
+    
+    private boolean isBgmPlaying = true; 
+
+    // Audio
+    private MediaPlayer bgmPlayer = null;
+    private AudioClip lineClearClip = null;
+    private AudioClip levelUpClip = null;
+    
+    private ScorePanel scorePanel;
+    private GamePanel gamePanel;
+    private TetrisApp app; 
+
+    private int animationTicks = 0;
+    private final int MAX_ANIMATION_TICKS = 3; 
+    // Cada tick da animação de linha dura 150 ms (9 frames)
+    private static final int FRAMES_POR_TICK_ANIMACAO = (int) (150L * TabelaGravidade.FRAMES_POR_SEGUNDO / 1000);
+
+    private final Instant inicioPartida;
+    
+    // --- NOVO PARA REPLAY ---
+    private ReplayData replayData;
+    private boolean recording = true; // Se está gravando a partida atual
+    
+    private volatile boolean isReplaying = false; // NOVO: Se está reproduzindo um replay
+    private int currentEventIndex = 0; // NOVO: Índice do próximo evento a ser executado
+    // --- FIM REPLAY ---
+
+    // --- ENTRADA ---
+    // Comandos do jogador: enfileirados pela thread do JavaFX, aplicados pela
+    // thread do jogo no início de cada frame
+    private static final int CAPACIDADE_FILA_COMANDOS = 256;
+    private final FilaComandos filaComandos = new FilaComandos(CAPACIDADE_FILA_COMANDOS);
+    private final FilaComandos.Consumidor aplicadorComandos = this::aplicarComando;
+    private boolean comandoAplicado;
+    // Frames de jogo já simulados (não conta frames pausados): relógio do replay
+    private long frameAtual = 0;
+    // Tempo entre o teclado e a aplicação do comando
+    private volatile long somaLatenciaEntradaNanos = 0;
+    private volatile long amostrasLatenciaEntrada = 0;
+
+    // --- QUADRO PUBLICADO ---
+    // Dois quadros reaproveitados; os painéis leem o publicado sem lock da Partida
+    private final QuadroDuplo quadros = new QuadroDuplo();
+    private boolean quadroPendente = false; // publicação adiada porque o quadro livre estava em leitura
+
+    public GameController(Partida partida) {
+        this.partida = partida;
+        this.inicioPartida = Instant.now();
+        
+        // --- INICIALIZAÇÃO REPLAY ---
+        this.replayData = new ReplayData(partida.getInitialSeed());
+        // ---------------------------
+        publicarQuadro();
+
+        // Carregar recursos de áudio no JavaFX Application Thread (Mantido)
+        Platform.runLater(() -> {
+            try {
+                var bgmUrl = getClass().getResource("/sounds/bgm.mp3");
+                if (bgmUrl != null) {
+                    Media media = new Media(bgmUrl.toExternalForm());
+                    bgmPlayer = new MediaPlayer(media);
+                    bgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+                    bgmPlayer.setVolume(0.35);
+                    bgmPlayer.play();
+                    isBgmPlaying = true; 
+                }
+
+                var lineUrl = getClass().getResource("/sounds/line.wav");
+                if (lineUrl != null) {
+                    lineClearClip = new AudioClip(lineUrl.toExternalForm());
+                }
+
+                var lvlUrl = getClass().getResource("/sounds/levelup.wav");
+                if (lvlUrl != null) {
+                    levelUpClip = new AudioClip(lvlUrl.toExternalForm());
+                    levelUpClip.setVolume(0.9);
+                    System.out.println("Level-up SFX carregado: " + lvlUrl.toExternalForm());
+                }
+            } catch (Exception e) {
+                System.err.println("Erro ao inicializar áudio: " + e.getMessage());
+            }
+        });
+    }
+    
+    // --- NOVO MÉTODO: Configura o controlador para o modo Replay ---
+    public void startReplay(ReplayData data) {
+        this.replayData = data;
+        this.isReplaying = true;
+        this.recording = false; 
+        this.currentEventIndex = 0;
+        // Força a UI a atualizar para o estado de replay
+        notifyObservers(); 
+        System.out.println("INICIANDO REPLAY da semente: " + data.getInitialSeed());
+    }
+    // --------------------------------------------------------------
+    
+    public void setApp(TetrisApp app) {
+        this.app = app;
+    }
+
+    public void toggleBGM() {
+        Platform.runLater(() -> {
+            if (bgmPlayer == null) {
+                System.err.println("BGM não carregada.");
+                return;
+            }
+
+            if (isBgmPlaying) {
+                bgmPlayer.pause();
+                isBgmPlaying = false;
+                System.out.println("Música de fundo DESLIGADA.");
+            } else {
+                bgmPlayer.play();
+                isBgmPlaying = true;
+                System.out.println("Música de fundo LIGADA.");
+            }
+        });
+    }
+
+    public void playLevelUpTest() {
+        if (levelUpClip != null) {
+            Platform.runLater(() -> {
+                try {
+                    System.out.println("Teste: tocando level-up SFX (manual)");
+                    levelUpClip.play();
+                } catch (Exception e) {
+                    System.err.println("Erro ao tocar level-up SFX no teste: " + e.getMessage());
+                }
+            });
+        } else {
+            System.err.println("Teste: levelUpClip não carregado");
+        }
+    }
+
+    public void playLineClearTest() {
+        if (lineClearClip != null) {
+            Platform.runLater(() -> {
+                try {
+                    System.out.println("Teste: tocando line-clear SFX (manual)");
+                    lineClearClip.play();
+                } catch (Exception e) {
+                    System.err.println("Erro ao tocar line-clear SFX no teste: " + e.getMessage());
+                }
+            });
+        } else {
+            System.err.println("Teste: lineClearClip não carregado");
+        }
+    }
+
+    public void setScorePanel(ScorePanel scorePanel) {
+        this.scorePanel = scorePanel;
+    }
+
+    public void setGamePanel(GamePanel gamePanel) {
+        this.gamePanel = gamePanel;
+    }
+
+    public Partida getPartida() {
+        return partida;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getAnimationTicks() {
+        return animationTicks;
+    }
+
+    /**
+     * Último quadro publicado, retido até liberarQuadro(). Thread do JavaFX
+     * (um leitor por vez).
+     */
+    public QuadroJogo adquirirQuadro() {
+        return quadros.adquirir();
+    }
+
+    public void liberarQuadro() {
+        quadros.liberar();
+    }
+
+    // Captura e publica um quadro novo. Só a thread do jogo chama (e o
+    // construtor/startReplay, antes de ela começar). Se o quadro livre
+    // ainda estiver sendo desenhado, tenta de novo no próximo frame.
+    private void publicarQuadro() {
+        quadroPendente = !quadros.publicar(partida, paused, animationTicks);
+    }
+    
+    // Executa um comando do jogador (ao vivo ou do replay). Retorna true se teve efeito.
+    private boolean executeReplayEvent(ReplayEventType type) {
+        switch (type) {
+            case MOVE_LEFT:
+                return partida.moverTetromino(-1, 0);
+            case MOVE_RIGHT:
+                return partida.moverTetromino(1, 0);
+            case MOVE_DOWN:
+                return partida.moverTetromino(0, 1);
+            case ROTATE:
+                return partida.rotacionarTetromino();
+            case HARD_DROP:
+                // Desce até o contato e fixa imediatamente
+                partida.soltarTetromino();
+                partida.processarQueda();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Consumidor da fila de comandos (thread do jogo)
+    private void aplicarComando(ReplayEventType tipo, long instanteNanos) {
+        if (tipo == ReplayEventType.TOGGLE_PAUSE) {
+            if (!partida.isGameOver()) {
+                paused = !paused;
+                System.out.println(paused ? "JOGO PAUSADO" : "JOGO RETOMADO");
+                comandoAplicado = true;
+            }
+            return;
+        }
+        if (paused || isReplaying || partida.isGameOver()) {
+            return; // descarta, como antes era ignorado na chamada
+        }
+        somaLatenciaEntradaNanos += System.nanoTime() - instanteNanos;
+        amostrasLatenciaEntrada++;
+        if (executeReplayEvent(tipo)) {
+            recordEvent(tipo);
+            comandoAplicado = true;
+        }
+    }
+
+    // --- LÓGICA POR FRAME ---
+
+    private void executarFrame() {
+        // Entrada primeiro: a ordem aplicada aqui é a ordem gravada no replay
+        comandoAplicado = false;
+        filaComandos.drenar(aplicadorComandos);
+        if (comandoAplicado) {
+            notifyObservers();
+        } else if (quadroPendente) {
+            publicarQuadro();
+        }
+        if (paused) {
+            ultimoPassoNanos = 0; // a pausa não conta como jitter
+            return;
+        }
+        if (isReplaying) {
+            processarEventosReplay();
+        }
+        frameAtual++;
+        if (--framesAteProximoPasso > 0) {
+            return;
+        }
+        registrarJitter();
+        framesAteProximoPasso = executarPasso();
+        intervaloEsperadoNanos = framesAteProximoPasso * TabelaGravidade.NANOS_POR_FRAME;
+    }
+
+    /**
+     * Um passo do jogo (tick de animação ou queda automática). Retorna
+     * quantos frames esperar até o próximo passo.
+     */
+    private int executarPasso() {
+        if (animationTicks > 0) {
+            animationTicks--;
+            if (animationTicks == 0) {
+                partida.concluirRemocaoLinhas();
+            }
+            notifyObservers();
+            return FRAMES_POR_TICK_ANIMACAO;
+        }
+
+        // 1. Processamento da Lógica (Queda Automática)
+        partida.processarQueda();
+
+        // 2. Inicia a animação se linhas foram detectadas
+        if (partida.temLinhasMarcadas()) {
+            animationTicks = MAX_ANIMATION_TICKS;
+            if (lineClearClip != null) {
+                Platform.runLater(() -> lineClearClip.play());
+            }
+        }
+
+        // 3. Notificação da UI
+        notifyObservers();
+
+        // 4. Nível: efeitos de level-up e lixo
+        if (partida.consumeLevelUp()) {
+            if (scorePanel != null) {
+                Platform.runLater(() -> scorePanel.showLevelUp());
+            }
+            if (levelUpClip != null) {
+                Platform.runLater(() -> {
+                    try {
+                        System.out.println("Tocando level-up SFX...");
+                        levelUpClip.play();
+                    } catch (Exception e) {
+                        System.err.println("Erro ao tocar level-up SFX: " + e.getMessage());
+                    }
+                });
+            } else {
+                System.err.println("levelUpClip está nulo ao tentar tocar SFX de level-up");
+            }
+
+            if (partida.aplicarLixoDoNivel() > 0) {
+                notifyObservers();
+            }
+        }
+
+        // 5. Velocidade do nível atual, em frames por linha
+        return tabelaGravidade.getFramesPorLinha(partida.getNivel());
+    }
+
+    private void processarEventosReplay() {
+        // Aplica os eventos gravados até o frame atual, no mesmo ponto do
+        // frame em que foram aplicados na partida original (antes da queda)
+        while (currentEventIndex < replayData.getEvents().size()) {
+            ReplayEvent nextEvent = replayData.getEvents().get(currentEventIndex);
+
+            if (frameDoTempo(nextEvent.getTimeMs()) <= frameAtual) {
+                executeReplayEvent(nextEvent.getType());
+                currentEventIndex++;
+            } else {
+                break; // Ainda não é hora deste evento
+            }
+        }
+
+        // Se todos os eventos foram executados, o replay está no fim
+        if (currentEventIndex >= replayData.getEvents().size()) {
+            System.out.println("REPLAY CONCLUÍDO!");
+            isReplaying = false; // Sai do modo replay
+            // Pausa a execução para o jogador ver o Game Over
+            if (!partida.isGameOver()) {
+                 this.paused = true;
+            }
+        }
+    }
+
+    // O replay guarda o tempo de jogo em ms (frame * 1000 / 60); volta ao frame exato
+    private static long tempoDoFrame(long frame) {
+        return frame * 1000 / TabelaGravidade.FRAMES_POR_SEGUNDO;
+    }
+
+    private static long frameDoTempo(long tempoMs) {
+        return (tempoMs * TabelaGravidade.FRAMES_POR_SEGUNDO + 999) / 1000;
+    }
+
+    public double getLatenciaEntradaMediaMs() {
+        long amostras = amostrasLatenciaEntrada;
+        return amostras == 0 ? 0 : somaLatenciaEntradaNanos / 1_000_000.0 / amostras;
+    }
+
+    // Desvio entre o intervalo real desde o passo anterior e o programado
+    private void registrarJitter() {
+        long agora = System.nanoTime();
+        if (ultimoPassoNanos != 0) {
+            long desvio = Math.abs((agora - ultimoPassoNanos) - intervaloEsperadoNanos);
+            somaJitterNanos += desvio;
+            jitterMaximoNanos = Math.max(jitterMaximoNanos, desvio);
+            amostrasJitter++;
+        }
+        ultimoPassoNanos = agora;
+    }
+
+    public double getJitterMedioMs() {
+        long amostras = amostrasJitter;
+        return amostras == 0 ? 0 : somaJitterNanos / 1_000_000.0 / amostras;
+    }
+
+    public double getJitterMaximoMs() {
+        return jitterMaximoNanos / 1_000_000.0;
+    }
+
+    /**
+     * Game loop de passo fixo: o tempo real (System.nanoTime) entra num
+     * acumulador e a lógica avança em frames de 1/60 s. A queda automática é
+     * contada em frames (TabelaGravidade), então o intervalo entre quedas não
+     * depende do tempo gasto processando ou desenhando.
+     */
+    @Override
+    public void run() {
+        final long nanosPorFrame = TabelaGravidade.NANOS_POR_FRAME;
+        long anterior = System.nanoTime();
+        long acumulador = 0;
+        framesAteProximoPasso = tabelaGravidade.getFramesPorLinha(partida.getNivel());
+
+        while (running && !partida.isGameOver()) {
+            long agora = System.nanoTime();
+            acumulador += agora - anterior;
+            anterior = agora;
+
+            // Depois de um travamento longo (GC, janela arrastada) não tenta
+            // recuperar todos os frames de uma vez: descarta o excesso
+            if (acumulador > MAX_FRAMES_ATRASADOS * nanosPorFrame) {
+                framesDescartados += acumulador / nanosPorFrame - MAX_FRAMES_ATRASADOS;
+                acumulador = MAX_FRAMES_ATRASADOS * nanosPorFrame;
+            }
+            while (acumulador >= nanosPorFrame && running && !partida.isGameOver()) {
+                executarFrame();
+                acumulador -= nanosPorFrame;
+            }
+
+            // Dorme até a fronteira do próximo frame
+            LockSupport.parkNanos(nanosPorFrame - acumulador);
+            if (Thread.currentThread().isInterrupted()) {
+                running = false;
+            }
+        }
+        System.out.printf("Game loop: %d passos medidos, jitter médio %.2f ms, máximo %.2f ms, %d frames descartados%n",
+                amostrasJitter, getJitterMedioMs(), getJitterMaximoMs(), framesDescartados);
+        System.out.printf("Entrada: %d comandos, latência média %.2f ms, %d descartados%n",
+                amostrasLatenciaEntrada, getLatenciaEntradaMediaMs(), filaComandos.getDescartados());
+
+        // --- LÓGICA DE GAME OVER E PERSISTÊNCIA ---
+        if (partida.isGameOver()) {
+            System.out.println("GAME OVER! Pontuação Final: " + partida.getPontuacao());
+            
+            // FINALIZAÇÃO DO REPLAY: Salva os dados para um arquivo
+            if (recording) {
+                tetris.replay.ReplayManager.saveReplay(replayData); 
+            }
+
+            long duracaoSegundos = Duration.between(inicioPartida, Instant.now()).getSeconds();
+
+            salvarPartida(RegistroPartida.de(partida, duracaoSegundos));
+
+            notifyObservers();
+            // Sem próximo frame para tentar de novo: espera o desenho em curso soltar o quadro
+            while (quadroPendente) {
+                LockSupport.parkNanos(TabelaGravidade.NANOS_POR_FRAME);
+                publicarQuadro();
+            }
+            if (scorePanel != null) {
+                scorePanel.update(); // o ranking se atualiza sozinho quando a partida chegar ao banco
+            }
+            
+            if (app != null) {
+                app.showGameOverMenu(); 
+            }
+        }
+    }
+
+    /**
+     * Entrega a partida à caixa de saída (diário local + envio em segundo
+     * plano). Só se o diário falhar a gravação é feita aqui mesmo, direto
+     * no repositório.
+     */
+    private void salvarPartida(RegistroPartida registro) {
+        try {
+            CaixaSaidaPartidas.getInstancia().enfileirar(registro);
+            System.out.println("Partida registrada; gravação no banco em segundo plano.");
+        } catch (IOException e) {
+            System.err.println("Caixa de saída indisponível (" + e.getMessage() + "); gravando direto.");
+            try {
+                Repositorios.partidas().salvar(registro);
+                System.out.println("Partida salva com sucesso (" + Repositorios.getDescricao() + ").");
+            } catch (SQLException | RuntimeException ex) {
+                System.err.println("ERRO FATAL DE PERSISTÊNCIA: Falha ao salvar a partida. " + ex.getMessage());
+            }
+        }
+    }
+
+    // Publica o estado; quem desenha é o CicloRenderizacao, no pulso seguinte
+    private void notifyObservers() {
+        publicarQuadro();
+        if (gamePanel != null && partida.isLevelUpFlag()) {
+            gamePanel.showLevelUpMessage();
+            partida.consumeLevelUpFlag(); 
+        }
+    }
+
+    // --- Comandos do Usuário (Chamados pelo InputHandler) ---
+    // Apenas enfileiram: quem mexe na Partida é a thread do jogo (aplicarComando).
+    // Único produtor da fila: a thread do JavaFX.
+
+    public void moveLeft() {
+        enfileirar(ReplayEventType.MOVE_LEFT);
+    }
+
+    public void moveRight() {
+        enfileirar(ReplayEventType.MOVE_RIGHT);
+    }
+
+    public void moveDown() {
+        enfileirar(ReplayEventType.MOVE_DOWN);
+    }
+
+    public void rotate() {
+        enfileirar(ReplayEventType.ROTATE);
+    }
+
+    public void hardDrop() {
+        enfileirar(ReplayEventType.HARD_DROP);
+    }
+
+    private void enfileirar(ReplayEventType tipo) {
+        // Ignora input do usuário se estiver em modo replay ou pausado
+        if (isReplaying || paused) return;
+        oferecer(tipo);
+    }
+
+    private void oferecer(ReplayEventType tipo) {
+        if (!filaComandos.oferecer(tipo, System.nanoTime())) {
+            System.err.println("Fila de comandos cheia: comando descartado (" + tipo + ")");
+        }
+    }
+    
+    // Também vale no replay; a troca acontece no próximo frame, na thread do jogo
+    public void togglePause() {
+        oferecer(ReplayEventType.TOGGLE_PAUSE);
+    }
+
+    private void recordEvent(ReplayEventType type) {
+        if (recording && !paused) {
+            replayData.addEvent(new ReplayEvent(tempoDoFrame(frameAtual), type));
+        }
+    }
+    
+    public void stop() {
+        this.running = false;
+        if (bgmPlayer != null) {
+            bgmPlayer.stop();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,460 @@
+package tetris;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox; 
+import javafx.scene.paint.Color;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.text.TextAlignment;
+import javafx.geometry.VPos;
+
+
+public class GamePanel {
+
+    private final GameController controller;
+    // Camadas empilhadas (de baixo para cima); cada uma só é redesenhada
+    // quando o próprio conteúdo muda
+    private final Canvas camadaFundo;        // fundo escurecido + borda: desenhado uma vez
+    private final Canvas camadaPilha;        // blocos fixos: fixação, remoção de linhas, lixo
+    private final Canvas camadaPeca;         // peça em queda e peça fantasma
+    private final Canvas camadaSobreposicao; // pausa, game over, LEVEL UP
+    // Alternativa às camadas de pilha e peça (-Dtetris.renderizador=pixelbuffer); null no modo Canvas
+    private final RenderizadorPixelBuffer renderizadorPixels;
+    private final VBox container; // NOVO: Contêiner para a borda
+    private final int tamanhoBloco;
+    private Image backgroundImage;
+    private boolean showingLevelUp = false;
+    private int levelUpTicks = 0;
+    // Pedido de LEVEL UP vindo da thread do jogo; consumido no próximo desenho
+    private volatile boolean levelUpPendente = false;
+    private static final int LEVEL_UP_DURATION = 24; // Reduzido para 24 frames (~0.4 segundos)
+    private static final int BLINK_RATE = 4; // Pisca a cada 4 frames
+    private javafx.scene.text.Font pixelFont;
+
+    // --- CAMADA DA PILHA (incremental) ---
+    // Conteúdo pintado em cada célula (y * LARGURA + x) e o do quadro atual, como códigos
+    private final int[] celulasDesenhadas = new int[Tabuleiro.LARGURA * Tabuleiro.ALTURA];
+    private final int[] celulasQuadro = new int[Tabuleiro.LARGURA * Tabuleiro.ALTURA];
+    private long celulasRepintadas = 0;
+
+    // --- CAMADA DA PEÇA ---
+    // Células pintadas no último desenho (peça + fantasma) e a posição que as gerou
+    private final int[] celulasPeca = new int[8];
+    private int totalCelulasPeca = 0;
+    private FormaPeca formaDesenhada;
+    private int corPecaDesenhada, xPecaDesenhada, yPecaDesenhada, yFantasmaDesenhado;
+
+    // --- CAMADA DE SOBREPOSIÇÃO ---
+    private boolean pausaDesenhada, gameOverDesenhado, levelUpDesenhado;
+
+    // Códigos de célula da pilha: vazia, índice de cor do bloco fixo ou linha
+    // piscando na animação de remoção
+    private static final int CELULA_VAZIA = 0;
+    private static final int FLASH_LIGADO = 0x200;
+    private static final int FLASH_DESLIGADO = 0x201;
+
+    // --- SPRITES ---
+    // Blocos e textos pré-renderizados; nada de Color/Font criado por frame
+    private final AtlasBlocos atlas;
+    private final AtlasBlocos.Rotulo rotuloPausa;
+    private final AtlasBlocos.Rotulo rotuloGameOver;
+    private final AtlasBlocos.Rotulo rotuloLevelUpRosa;
+    private final AtlasBlocos.Rotulo rotuloLevelUpAzul;
+    private final javafx.scene.text.Font fontePlacarFinal;
+    private static final Color COR_VEU_PAUSA = Color.BLACK.deriveColor(0, 0, 0, 0.5);
+    private static final Color COR_VEU_GAME_OVER = Color.web("#8B0000").deriveColor(0, 1.0, 1.0, 0.7);
+    private static final Color COR_PLACAR_FINAL = Color.web("#00BFFF"); // Azul Neon
+
+    public GamePanel(GameController controller, int tamanhoBloco) {
+            // Tenta carregar a fonte pixel usando InputStream
+            try {
+                var fontStream = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
+                if (fontStream != null) {
+                    pixelFont = javafx.scene.text.Font.loadFont(fontStream, 24);
+                    fontStream.close();
+                    if (pixelFont == null) {
+                        System.err.println("Falha ao carregar a fonte (loadFont retornou null)");
+                    } else {
+                        System.out.println("Fonte carregada com sucesso: " + pixelFont.getName());
+                    }
+                } else {
+                    System.err.println("Arquivo de fonte não encontrado");
+                }
+            } catch (Exception e) {
+                System.err.println("Erro ao carregar fonte: " + e.getMessage());
+                e.printStackTrace();
+            }
+
+        this.controller = controller;
+        this.tamanhoBloco = tamanhoBloco;
+
+        // Sprites: o atlas é compartilhado por tamanho de bloco; os textos ficam em cache nele
+        this.atlas = AtlasBlocos.para(tamanhoBloco);
+        this.rotuloPausa = atlas.rotulo("PAUSADO", new javafx.scene.text.Font("Arial", 40), Color.WHITE, null, 0);
+        javafx.scene.text.Font fonteGameOver = pixelFont != null
+                ? javafx.scene.text.Font.font(pixelFont.getFamily(), 40)
+                : new javafx.scene.text.Font("Arial", 40);
+        this.rotuloGameOver = atlas.rotulo("GAME OVER", fonteGameOver, Color.WHITE, null, 0);
+        // Usa a fonte pixel se disponível, senão usa Arial como fallback
+        javafx.scene.text.Font fonteLevelUp = pixelFont != null ? pixelFont : javafx.scene.text.Font.font("Arial", 28);
+        // Duas cores neon (rosa e azul) alternadas por fase de piscar; contorno escuro para contraste
+        Color contornoLevelUp = Color.web("#0A0A0A", 0.9);
+        this.rotuloLevelUpRosa = atlas.rotulo("LEVEL UP!", fonteLevelUp, Color.web("#FF6EC7"), contornoLevelUp, 2);
+        this.rotuloLevelUpAzul = atlas.rotulo("LEVEL UP!", fonteLevelUp, Color.web("#00E5FF"), contornoLevelUp, 2);
+        this.fontePlacarFinal = pixelFont != null
+                ? javafx.scene.text.Font.font(pixelFont.getFamily(), 20)
+                : new javafx.scene.text.Font("Arial", 20);
+
+        int larguraCanvas = Tabuleiro.LARGURA * tamanhoBloco;
+        int alturaCanvas = Tabuleiro.ALTURA * tamanhoBloco;
+        this.camadaFundo = new Canvas(larguraCanvas, alturaCanvas);
+        this.camadaPilha = new Canvas(larguraCanvas, alturaCanvas);
+        this.camadaPeca = new Canvas(larguraCanvas, alturaCanvas);
+        this.camadaSobreposicao = new Canvas(larguraCanvas, alturaCanvas);
+        this.renderizadorPixels = RenderizadorPixelBuffer.selecionado() ? new RenderizadorPixelBuffer(tamanhoBloco) : null;
+
+        // O VBox será o contêiner visível; as camadas ficam empilhadas dentro dele.
+        // No modo PixelBuffer, fundo, pilha e peça saem todos da mesma imagem
+        StackPane camadas = renderizadorPixels != null
+                ? new StackPane(renderizadorPixels.getVisao(), camadaSobreposicao)
+                : new StackPane(camadaFundo, camadaPilha, camadaPeca, camadaSobreposicao);
+        this.container = new VBox(camadas);
+
+        // Fixar o tamanho do contêiner ao tamanho do canvas para evitar que o
+        // layout expanda/encolha o canvas quando a janela for maximizada.
+        this.container.setMinSize(larguraCanvas, alturaCanvas);
+        this.container.setPrefSize(larguraCanvas, alturaCanvas);
+        this.container.setMaxSize(larguraCanvas, alturaCanvas);
+
+        // Mantemos o contêiner transparente e sem padding; a borda será
+        // desenhada diretamente no Canvas para garantir alinhamento perfeito
+        // entre borda e área de jogo.
+        this.container.setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+
+        // Tenta carregar a imagem de fundo
+        try {
+            // Primeiro tenta do classpath
+            var url = getClass().getResource("/fundo.jpg");
+            if (url != null) {
+                backgroundImage = new Image(url.toExternalForm());
+            } else {
+                // Tenta carregar do arquivo durante desenvolvimento
+                String devPath = "src/main/resources/fundo.jpg";
+                if (new java.io.File(devPath).exists()) {
+                    backgroundImage = new Image(new java.io.File(devPath).toURI().toString());
+                }
+            }
+        } catch (Exception ex) {
+            System.err.println("Erro ao carregar fundo.jpg: " + ex.getMessage());
+        }
+        // --------------------------------------------------------------------
+        desenharFundo();
+        if (renderizadorPixels != null) {
+            renderizadorPixels.setFundo(pixelsDoFundo());
+        }
+
+        controller.setGamePanel(this);
+    }
+
+    // Agora retornamos o contêiner VBox (que é o que tem a borda)
+    public Node getVisualComponent() {
+        return container;
+    }
+
+    /**
+     * Desenha o quadro informado. Chamado pelo CicloRenderizacao, na thread
+     * do JavaFX, no máximo uma vez por pulso; cada camada decide se mudou.
+     */
+    public void desenhar(QuadroJogo quadro) {
+        if (levelUpPendente) {
+            levelUpPendente = false;
+            showingLevelUp = true;
+            levelUpTicks = LEVEL_UP_DURATION;
+        }
+        if (renderizadorPixels != null) {
+            renderizadorPixels.desenhar(quadro);
+        } else {
+            desenharPilha(quadro);
+            desenharPeca(quadro);
+        }
+        desenharSobreposicao(quadro);
+    }
+
+    // Pode ser chamado de qualquer thread; a mensagem começa no próximo pulso
+    public void showLevelUpMessage() {
+        levelUpPendente = true;
+    }
+
+    // Há efeito em andamento que precisa de desenho a cada pulso, mesmo sem quadro novo
+    public boolean isAnimando() {
+        return levelUpPendente || (showingLevelUp && levelUpTicks > 0) || levelUpDesenhado
+                || (renderizadorPixels != null && renderizadorPixels.temPendencia());
+    }
+
+    // --- CAMADA 1: FUNDO ---
+
+    /**
+     * Fundo do tabuleiro (imagem escalada + camada escura + borda). Desenhado
+     * uma única vez, na criação do painel.
+     */
+    private void desenharFundo() {
+        GraphicsContext gc = camadaFundo.getGraphicsContext2D();
+
+        if (backgroundImage != null) {
+            // Desenhar a imagem de fundo ajustada ao tamanho do canvas
+            gc.drawImage(backgroundImage, 0, 0, camadaFundo.getWidth(), camadaFundo.getHeight());
+            // Aplicar uma camada semi-transparente preta para dar contraste às peças
+            gc.setFill(Color.BLACK.deriveColor(0, 0, 0, 0.7));
+            gc.fillRect(0, 0, camadaFundo.getWidth(), camadaFundo.getHeight());
+        } else {
+            // Fallback: fundo preto se não houver imagem
+            gc.setFill(Color.BLACK);
+            gc.fillRect(0, 0, camadaFundo.getWidth(), camadaFundo.getHeight());
+        }
+
+        // Desenhar borda externa diretamente no canvas para alinhamento
+        gc.setStroke(Color.web("#00BFFF"));
+        gc.setLineWidth(3);
+        double arc = 8.0;
+        // small inset (0.5) to make stroke fully visible inside pixel grid
+        gc.strokeRoundRect(0.5, 0.5, camadaFundo.getWidth() - 1, camadaFundo.getHeight() - 1, arc, arc);
+    }
+
+    // Pixels do fundo já desenhado, no formato do RasterizadorQuadro (ARGB pré-multiplicado)
+    private int[] pixelsDoFundo() {
+        int largura = (int) camadaFundo.getWidth();
+        int altura = (int) camadaFundo.getHeight();
+        int[] pixels = new int[largura * altura];
+        camadaFundo.snapshot(null, null).getPixelReader()
+                .getPixels(0, 0, largura, altura, PixelFormat.getIntArgbPreInstance(), pixels, 0, largura);
+        return pixels;
+    }
+
+    // --- CAMADA 2: PILHA ---
+
+    /**
+     * Blocos fixos: compara os códigos do quadro com os já pintados e repinta
+     * só as células diferentes. Entre fixações a pilha não muda e nada é feito.
+     */
+    private void desenharPilha(QuadroJogo quadro) {
+        montarCelulas(quadro);
+        GraphicsContext gc = null;
+        for (int i = 0; i < celulasQuadro.length; i++) {
+            if (celulasQuadro[i] != celulasDesenhadas[i]) {
+                if (gc == null) {
+                    gc = camadaPilha.getGraphicsContext2D();
+                }
+                repintarCelula(gc, i % Tabuleiro.LARGURA, i / Tabuleiro.LARGURA, celulasQuadro[i]);
+                celulasDesenhadas[i] = celulasQuadro[i];
+                celulasRepintadas++;
+            }
+        }
+    }
+
+    /**
+     * Traduz os blocos fixos do quadro para códigos de célula (cor do bloco
+     * ou o piscar das linhas em remoção).
+     */
+    private void montarCelulas(QuadroJogo quadro) {
+        // Lógica de piscar (alterna a cor a cada tick de animação)
+        boolean flashOn = (quadro.getTicksAnimacao() % 2 == 1);
+
+        int i = 0;
+        for (int y = 0; y < Tabuleiro.ALTURA; y++) {
+            boolean isAnimating = quadro.isLinhaParaRemover(y);
+            for (int x = 0; x < Tabuleiro.LARGURA; x++, i++) {
+                int indiceCor = quadro.getIndiceCor(x, y);
+                if (indiceCor == Tabuleiro.COR_VAZIA) {
+                    celulasQuadro[i] = CELULA_VAZIA;
+                } else if (isAnimating) {
+                    celulasQuadro[i] = flashOn ? FLASH_LIGADO : FLASH_DESLIGADO;
+                } else {
+                    celulasQuadro[i] = indiceCor;
+                }
+            }
+        }
+    }
+
+    // Limpa a célula na camada (transparente) e pinta o bloco, se houver
+    private void repintarCelula(GraphicsContext gc, int x, int y, int codigo) {
+        double px = x * tamanhoBloco;
+        double py = y * tamanhoBloco;
+        gc.clearRect(px, py, tamanhoBloco, tamanhoBloco);
+        if (codigo == CELULA_VAZIA) {
+            return;
+        }
+        if (codigo == FLASH_LIGADO || codigo == FLASH_DESLIGADO) {
+            // Pisca entre vermelho/cinza durante a animação
+            atlas.desenharFlash(gc, codigo == FLASH_LIGADO, px, py);
+        } else {
+            atlas.desenharBloco(gc, codigo, px, py); // Usa a cor original da peça fixada
+        }
+    }
+
+    // --- CAMADA 3: PEÇA ---
+
+    /**
+     * Peça em queda e peça fantasma. Se a peça não mudou (forma, cor,
+     * posição, linha do fantasma), a camada fica como está; senão apaga as
+     * células do desenho anterior e pinta as novas.
+     */
+    private void desenharPeca(QuadroJogo quadro) {
+        boolean temPeca = quadro.temPeca();
+        if (temPeca == (formaDesenhada != null)
+                && (!temPeca || (quadro.getFormaPeca() == formaDesenhada
+                        && quadro.getIndiceCorPeca() == corPecaDesenhada
+                        && quadro.getXPeca() == xPecaDesenhada
+                        && quadro.getYPeca() == yPecaDesenhada
+                        && quadro.getYFantasma() == yFantasmaDesenhado))) {
+            return;
+        }
+
+        GraphicsContext gc = camadaPeca.getGraphicsContext2D();
+        for (int c = 0; c < totalCelulasPeca; c++) {
+            int i = celulasPeca[c];
+            gc.clearRect((i % Tabuleiro.LARGURA) * tamanhoBloco, (i / Tabuleiro.LARGURA) * tamanhoBloco,
+                    tamanhoBloco, tamanhoBloco);
+        }
+        totalCelulasPeca = 0;
+        formaDesenhada = null;
+        if (!temPeca)
+            return;
+
+        FormaPeca forma = quadro.getFormaPeca();
+        int xPeca = quadro.getXPeca();
+        int yPeca = quadro.getYPeca();
+        int yFantasma = quadro.getYFantasma();
+        int indiceCor = quadro.getIndiceCorPeca();
+
+        // Fantasma primeiro (translúcido): a peça é desenhada por cima quando se tocam
+        if (yFantasma > yPeca && !quadro.isGameOver()) {
+            pintarForma(gc, forma, xPeca, yFantasma, indiceCor, true);
+        }
+
+        // CORREÇÃO: Usa a cor REAL da Peça (índice do tipo traduzido pela paleta)
+        pintarForma(gc, forma, xPeca, yPeca, indiceCor, false);
+
+        formaDesenhada = forma;
+        corPecaDesenhada = quadro.getIndiceCorPeca();
+        xPecaDesenhada = xPeca;
+        yPecaDesenhada = yPeca;
+        yFantasmaDesenhado = yFantasma;
+    }
+
+    // Percorre apenas as células ocupadas da forma pré-calculada, guardando-as para a limpeza
+    private void pintarForma(GraphicsContext gc, FormaPeca forma, int xPeca, int yPeca, int indiceCor,
+            boolean fantasma) {
+        int[] celulasX = forma.getCelulasX();
+        int[] celulasY = forma.getCelulasY();
+        for (int c = 0; c < celulasX.length; c++) {
+            int xAbs = xPeca + celulasX[c];
+            int yAbs = yPeca + celulasY[c];
+
+            if (yAbs >= 0 && yAbs < Tabuleiro.ALTURA && xAbs >= 0 && xAbs < Tabuleiro.LARGURA) {
+                if (fantasma) {
+                    atlas.desenharFantasma(gc, indiceCor, xAbs * tamanhoBloco, yAbs * tamanhoBloco);
+                } else {
+                    atlas.desenharPeca(gc, indiceCor, xAbs * tamanhoBloco, yAbs * tamanhoBloco);
+                }
+                if (totalCelulasPeca < celulasPeca.length) {
+                    celulasPeca[totalCelulasPeca++] = yAbs * Tabuleiro.LARGURA + xAbs;
+                }
+            }
+        }
+    }
+
+    // --- CAMADA 4: SOBREPOSIÇÃO ---
+
+    /**
+     * Pausa, game over e LEVEL UP. Redesenhada só quando um desses estados
+     * muda, ou a cada pulso enquanto o LEVEL UP pisca.
+     */
+    private void desenharSobreposicao(QuadroJogo quadro) {
+        boolean levelUpAtivo = showingLevelUp && levelUpTicks > 0;
+        if (!levelUpAtivo && !levelUpDesenhado
+                && quadro.isPausado() == pausaDesenhada && quadro.isGameOver() == gameOverDesenhado) {
+            return;
+        }
+        GraphicsContext gc = camadaSobreposicao.getGraphicsContext2D();
+        gc.clearRect(0, 0, camadaSobreposicao.getWidth(), camadaSobreposicao.getHeight());
+
+        // 4. Desenhar tela de pausa (se estiver pausado)
+        if (quadro.isPausado()) {
+            drawPauseScreen(gc);
+        }
+        
+        // 5. NOVO: Desenhar tela de Game Over (se o jogo acabou)
+        if (quadro.isGameOver()) {
+            drawGameOverScreen(gc, quadro);
+        }
+
+        // Desenhar mensagem de LEVEL UP se estiver ativa
+        if (levelUpAtivo) {
+            drawLevelUp(gc);
+        }
+
+        pausaDesenhada = quadro.isPausado();
+        gameOverDesenhado = quadro.isGameOver();
+        levelUpDesenhado = levelUpAtivo;
+    }
+
+    private void drawLevelUp(GraphicsContext gc) {
+        // Só mostra a mensagem quando levelUpTicks % BLINK_RATE == 0 (efeito de piscar)
+        if (levelUpTicks % BLINK_RATE == 0) {
+            // Alterna entre duas cores neon (rosa e azul) por fase de piscar
+            int phase = (levelUpTicks / BLINK_RATE) % 2; // 0 ou 1
+            AtlasBlocos.Rotulo rotulo = (phase == 0) ? rotuloLevelUpRosa : rotuloLevelUpAzul;
+            // Centraliza horizontalmente, um pouco acima do centro (42% da altura)
+            rotulo.desenharCentralizado(gc, camadaSobreposicao.getWidth() / 2.0, camadaSobreposicao.getHeight() * 0.42);
+        }
+        levelUpTicks--;
+        if (levelUpTicks <= 0) {
+            showingLevelUp = false;
+        }
+    }
+
+    // Total de células da pilha repintadas desde a criação do painel (métrica do desenho incremental)
+    public long getCelulasRepintadas() {
+        return celulasRepintadas;
+    }
+
+    /**
+     * Desenha uma tela de pausa semi-transparente.
+     */
+    private void drawPauseScreen(GraphicsContext gc) {
+        // Semi-transparência
+        gc.setFill(COR_VEU_PAUSA);
+        gc.fillRect(0, 0, camadaSobreposicao.getWidth(), camadaSobreposicao.getHeight());
+
+        // Texto de Pausa
+        rotuloPausa.desenhar(gc, (camadaSobreposicao.getWidth() / 2) - 90, camadaSobreposicao.getHeight() / 2);
+    }
+    
+    /**
+     * NOVO: Desenha a tela de Game Over e a pontuação final.
+     */
+    private void drawGameOverScreen(GraphicsContext gc, QuadroJogo quadro) {
+        // 1. Fundo do Game Over (Vermelho escuro semi-transparente)
+        gc.setFill(COR_VEU_GAME_OVER);
+        gc.fillRect(0, 0, camadaSobreposicao.getWidth(), camadaSobreposicao.getHeight());
+
+        double cx = camadaSobreposicao.getWidth() / 2.0;
+        double cy = camadaSobreposicao.getHeight() * 0.40;
+
+        // 2. Texto de Game Over
+        rotuloGameOver.desenharCentralizado(gc, cx, cy);
+
+        // 3. Pontuação Final (varia por partida: texto direto, desenhado uma vez no fim do jogo)
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(COR_PLACAR_FINAL);
+        gc.setFont(fontePlacarFinal);
+        String scoreMsg = "SCORE: " + quadro.getPontuacao();
+        gc.fillText(scoreMsg, cx, cy + 50); // Abaixo do Game Over
+        
+        // As instruções/botões de jogar novamente serão adicionadas na UI (TetrisApp)
+    }
+}
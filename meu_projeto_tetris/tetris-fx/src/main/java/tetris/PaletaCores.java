@@ -0,0 +1,31 @@
+package tetris;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Tradução dos índices de cor do núcleo (Tabuleiro/TipoTetromino) para
+ * cores do JavaFX. É o único ponto em que o jogo associa regras a cores.
+ */
+public final class PaletaCores {
+
+    // Índice 0 = vazio; 1..7 = I, O, T, S, Z, J, L; último = lixo
+    private static final Color[] CORES = {
+        Color.TRANSPARENT,
+        Color.CYAN, Color.YELLOW, Color.PURPLE, Color.GREEN,
+        Color.RED, Color.BLUE, Color.ORANGE,
+        Color.GRAY
+    };
+
+    static {
+        if (CORES.length != Tabuleiro.TOTAL_CORES) {
+            throw new IllegalStateException("Paleta de cores não corresponde aos índices do Tabuleiro.");
+        }
+    }
+
+    private PaletaCores() {
+    }
+
+    public static Color cor(int indice) {
+        return CORES[indice];
+    }
+}
@@ -0,0 +1,172 @@
+package tetris;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import tetris.render.RasterizadorQuadro;
+
+/**
+ * Renderizador alternativo do tabuleiro: o QuadroJogo publicado é
+ * rasterizado (RasterizadorQuadro) num int[] fora da thread do JavaFX. Na
+ * thread do JavaFX sobra só copiar esse int[] para o IntBuffer direto da
+ * WritableImage, dentro do updateBuffer (único lugar em que o contrato do
+ * PixelBuffer permite mexer no buffer), e trocar a imagem exibida, sem
+ * nenhuma chamada de GraphicsContext.
+ *
+ * Dois alvos (pixels + buffer + imagem) se alternam: o trabalhador escreve
+ * sempre nos pixels do que não está na tela, e o buffer de cada alvo só é
+ * tocado na thread do JavaFX. Há no máximo uma rasterização em andamento; se
+ * várias versões forem publicadas nesse meio-tempo, só a mais recente é
+ * desenhada no pulso seguinte.
+ *
+ * Ativado com -Dtetris.renderizador=pixelbuffer (o padrão continua sendo
+ * o desenho em camadas de Canvas).
+ */
+public final class RenderizadorPixelBuffer {
+
+    private static final String PROPRIEDADE = "tetris.renderizador";
+
+    // Uma thread basta: o trabalho é serial por natureza (um quadro por vez)
+    private static final ExecutorService RASTERIZADOR = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread t = new Thread(tarefa, "rasterizador");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Cópia do quadro, pixels rasterizados, o buffer que os recebe e a imagem que o exibe. */
+    private static final class Alvo {
+        final QuadroJogo quadro = new QuadroJogo();
+        final int[] pixels;
+        final IntBuffer buffer;
+        final PixelBuffer<IntBuffer> pixelBuffer;
+        final WritableImage imagem;
+
+        Alvo(int largura, int altura) {
+            this.pixels = new int[largura * altura];
+            this.buffer = ByteBuffer.allocateDirect(largura * altura * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+            this.pixelBuffer = new PixelBuffer<>(largura, altura, buffer, PixelFormat.getIntArgbPreInstance());
+            this.imagem = new WritableImage(pixelBuffer);
+        }
+    }
+
+    private final RasterizadorQuadro rasterizador;
+    private final ImageView visao = new ImageView();
+
+    private Alvo exibido;
+    private Alvo livre;
+
+    // Estado da rasterização em andamento (escrito pelo trabalhador, lido no pulso)
+    private volatile boolean emAndamento = false;
+    private volatile boolean pronto = false;
+    private long versaoEnviada = -1;
+
+    // --- MÉTRICAS ---
+    private volatile long quadrosRasterizados = 0;
+    private volatile long nanosRasterizando = 0;
+
+    /** true se o renderizador por PixelBuffer foi escolhido na linha de comando. */
+    public static boolean selecionado() {
+        return "pixelbuffer".equalsIgnoreCase(System.getProperty(PROPRIEDADE, "canvas"));
+    }
+
+    public RenderizadorPixelBuffer(int tamanhoBloco) {
+        this.rasterizador = new RasterizadorQuadro(tamanhoBloco, paletaArgb());
+        int largura = rasterizador.getLargura();
+        int altura = rasterizador.getAltura();
+        this.exibido = new Alvo(largura, altura);
+        this.livre = new Alvo(largura, altura);
+        visao.setImage(exibido.imagem);
+    }
+
+    // Cores da PaletaCores convertidas para ARGB (todas opacas, exceto o vazio, que não é pintado)
+    private static int[] paletaArgb() {
+        int[] argb = new int[Tabuleiro.TOTAL_CORES];
+        for (int i = 0; i < argb.length; i++) {
+            Color cor = PaletaCores.cor(i);
+            argb[i] = ((int) Math.round(cor.getOpacity() * 255) << 24)
+                    | ((int) Math.round(cor.getRed() * 255) << 16)
+                    | ((int) Math.round(cor.getGreen() * 255) << 8)
+                    | (int) Math.round(cor.getBlue() * 255);
+        }
+        return argb;
+    }
+
+    public ImageView getVisao() {
+        return visao;
+    }
+
+    /**
+     * Fundo fixo do tabuleiro (ARGB pré-multiplicado, opaco). Deve ser
+     * chamado antes do primeiro desenhar.
+     */
+    public void setFundo(int[] fundo) {
+        rasterizador.setFundo(fundo);
+    }
+
+    /**
+     * Chamado a cada pulso, na thread do JavaFX: exibe o último quadro
+     * rasterizado (se houver) e, se o trabalhador estiver livre e a versão
+     * for nova, manda rasterizar o quadro informado.
+     */
+    public void desenhar(QuadroJogo quadro) {
+        if (pronto) {
+            pronto = false;
+            // Cópia para o buffer só aqui dentro: o Prism pode estar lendo o buffer fora do updateBuffer
+            Alvo novo = livre;
+            novo.pixelBuffer.updateBuffer(b -> {
+                novo.buffer.put(0, novo.pixels);
+                return null;
+            });
+            visao.setImage(novo.imagem);
+            Alvo anterior = exibido;
+            exibido = livre;
+            livre = anterior;
+            emAndamento = false;
+        }
+        if (!emAndamento && quadro.getVersao() != versaoEnviada) {
+            versaoEnviada = quadro.getVersao();
+            emAndamento = true;
+            Alvo destino = livre;
+            // O quadro publicado é reaproveitado pela thread do jogo depois do pulso: o trabalhador usa uma cópia
+            destino.quadro.copiarDe(quadro);
+            RASTERIZADOR.execute(() -> rasterizar(destino.quadro, destino));
+        }
+    }
+
+    // Thread "rasterizador": escreve só nos pixels do alvo livre (o buffer fica com a thread do JavaFX)
+    private void rasterizar(QuadroJogo quadro, Alvo destino) {
+        try {
+            long inicio = System.nanoTime();
+            rasterizador.rasterizar(quadro, destino.pixels);
+            nanosRasterizando += System.nanoTime() - inicio;
+            quadrosRasterizados++;
+            pronto = true;
+        } catch (RuntimeException e) {
+            // Mantém o quadro anterior na tela; a próxima versão tenta de novo
+            System.err.println("Erro ao rasterizar quadro " + quadro.getVersao() + ": " + e.getMessage());
+            emAndamento = false;
+        }
+    }
+
+    /** Há quadro sendo rasterizado ou esperando para ser exibido. */
+    public boolean temPendencia() {
+        return emAndamento;
+    }
+
+    public long getQuadrosRasterizados() {
+        return quadrosRasterizados;
+    }
+
+    public double getMicrosPorQuadro() {
+        long quadros = quadrosRasterizados;
+        return quadros == 0 ? 0 : nanosRasterizando / 1000.0 / quadros;
+    }
+}
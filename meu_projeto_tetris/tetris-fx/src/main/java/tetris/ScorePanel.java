@@ -44,7 +44,7 @@ public class ScorePanel {
     private final Label currentPlayerLabel;
     private final VBox rankingBox; 
     private final Label[] rankingLabels; 
-    private final RankingDAO rankingDAO;
+    private final ServicoRanking.Assinante assinanteRanking;
 
     private final Canvas nextPieceCanvas;
     private final StackPane nextPieceContainer;
@@ -58,18 +58,32 @@ public class ScorePanel {
     
     // Tamanho do Canvas de pré-visualização (4 blocos)
     private final int CANVAS_REFERENCE_SIZE = 4;
+    // Blocos da pré-visualização são 80% do tamanho do tabuleiro (sprites do atlas)
+    private static final double FATOR_ESCALA_PROXIMA = 0.8;
+    private final AtlasBlocos atlasProxima;
+    // Próxima peça já desenhada (o canvas só muda quando ela muda)
+    private FormaPeca formaProximaDesenhada;
+    private int corProximaDesenhada;
     private final Label levelUpLabel; 
+    // Valores já exibidos: desenhar() roda a cada quadro novo e só mexe no que mudou
+    private int estadoPausaExibido = -1; // 0 = jogando, 1 = pausado, 2 = fim de jogo
+    private int pontuacaoExibida = -1;
+    private int nivelExibido = -1;
+    private int linhasExibidas = -1;
 
     // --- Cores Neon ---
     private static final String NEON_PINK = "#FF6EC7";
     private static final String NEON_GREEN = "#39FF14";
     private static final String BUTTON_STYLE = 
         "-fx-background-color: %s; -fx-text-fill: black; -fx-font-weight: bold; -fx-padding: 5 10 5 10;";
+    private static final String ESTILO_BOTAO_ROSA = String.format(BUTTON_STYLE, NEON_PINK);
+    private static final String ESTILO_BOTAO_VERDE = String.format(BUTTON_STYLE, NEON_GREEN);
 
 
     public ScorePanel(GameController controller, int tamanhoBloco) {
         this.controller = controller;
         this.tamanhoBloco = tamanhoBloco;
+        this.atlasProxima = AtlasBlocos.para((int) Math.round(tamanhoBloco * FATOR_ESCALA_PROXIMA));
 
         // 1. Inicializa Componentes de Texto
         this.scoreLabel = new Label("Pontuação: 0");
@@ -152,7 +166,6 @@ public class ScorePanel {
                 "-fx-border-color: #00BFFF; -fx-border-width: 3; -fx-border-radius: 3; -fx-background-color: black;");
 
         // 4. Inicializa componentes do Ranking
-        this.rankingDAO = new RankingDAO();
         this.rankingBox = new VBox(5);
         rankingBox.setAlignment(Pos.CENTER_LEFT);
         rankingBox.setPadding(new Insets(10));
@@ -198,7 +211,7 @@ public class ScorePanel {
         // Botão para cadastrar/definir novo jogador
         this.novoJogadorButton = new Button("Novo Jogador");
         this.novoJogadorButton.setFocusTraversable(false);
-        this.novoJogadorButton.setStyle(String.format(BUTTON_STYLE, NEON_GREEN));
+        this.novoJogadorButton.setStyle(ESTILO_BOTAO_VERDE);
         
         // --- Lógica do Novo Jogador (CHAMA O DIÁLOGO CUSTOMIZADO) ---
         // familyCss é passado para o novo método
@@ -214,7 +227,7 @@ public class ScorePanel {
         
         this.pauseButton = new Button("Pausar (Esc)");
         this.pauseButton.setFocusTraversable(false);
-        this.pauseButton.setStyle(String.format(BUTTON_STYLE, NEON_PINK));
+        this.pauseButton.setStyle(ESTILO_BOTAO_ROSA);
 
         this.pauseButton.setOnAction(evt -> {
             controller.togglePause(); 
@@ -252,6 +265,27 @@ public class ScorePanel {
         );
 
         controller.setScorePanel(this);
+
+        // Ranking vem do cache do ServicoRanking; cada mudança chega aqui uma vez
+        this.assinanteRanking = new ServicoRanking.Assinante() {
+            @Override
+            public void rankingAtualizado(List<RankingDAO.RegistroRanking> top) {
+                Platform.runLater(() -> exibirRanking(top));
+            }
+
+            @Override
+            public void falhaAoAtualizar(SQLException erro) {
+                // Um alerta por sequência de falhas, não a cada atualização
+                Platform.runLater(() -> {
+                    Alert alert = new Alert(Alert.AlertType.ERROR);
+                    alert.setTitle("Erro ao carregar ranking");
+                    alert.setContentText("Não foi possível carregar o ranking: " + erro.getMessage());
+                    alert.show();
+                });
+            }
+        };
+        ServicoRanking.getInstancia().assinar(assinanteRanking);
+
         update();
 
         // guarda label de level-up acessível pelo método showLevelUp
@@ -292,87 +326,99 @@ public class ScorePanel {
     }
 
     /**
-     * Método chamado pelo GameController para atualizar os dados do painel.
+     * Atualização completa (jogador, placar e ranking). Chamada na criação do
+     * painel, ao trocar de jogador e no fim da partida; o placar de cada frame
+     * vem do CicloRenderizacao (desenhar).
      */
     public void update() {
         Platform.runLater(() -> {
-            Partida partida = controller.getPartida();
-
             // Atualiza a label do jogador atual
-            Jogador jogadorAtual = partida.getJogador();
+            Jogador jogadorAtual = controller.getPartida().getJogador();
             if (jogadorAtual != null) {
                 currentPlayerLabel.setText("Jogador: " + jogadorAtual.getNome());
             } else {
                 currentPlayerLabel.setText("Jogador: —");
             }
 
-            // ATUALIZAÇÃO: Lógica para o botão de Pausa
-            boolean isGameOver = partida.isGameOver();
-            boolean isPaused = controller.isPaused();
-            
-            if (isGameOver) {
+            QuadroJogo quadro = controller.adquirirQuadro();
+            try {
+                desenhar(quadro);
+            } finally {
+                controller.liberarQuadro();
+            }
+
+            // Atualizar o ranking (só muda quando uma partida é salva)
+            atualizarRanking();
+        });
+    }
+
+    /**
+     * Placar, botão de pausa e próxima peça a partir do quadro publicado.
+     * Thread do JavaFX.
+     */
+    public void desenhar(QuadroJogo quadro) {
+        // ATUALIZAÇÃO: Lógica para o botão de Pausa (só quando o estado muda)
+        int estadoPausa = quadro.isGameOver() ? 2 : quadro.isPausado() ? 1 : 0;
+        if (estadoPausa != estadoPausaExibido) {
+            estadoPausaExibido = estadoPausa;
+            if (estadoPausa == 2) {
                 pauseButton.setText("FIM DE JOGO");
                 pauseButton.setDisable(true);
-                pauseButton.setStyle(String.format(BUTTON_STYLE, NEON_PINK));
             } else {
-                pauseButton.setText(isPaused ? "Continuar (Esc)" : "Pausar (Esc)");
+                pauseButton.setText(estadoPausa == 1 ? "Continuar (Esc)" : "Pausar (Esc)");
                 pauseButton.setDisable(false);
-                pauseButton.setStyle(String.format(BUTTON_STYLE, NEON_PINK));
             }
-            
-            // Recarrega o estilo do Novo Jogador também no update, por segurança
-            novoJogadorButton.setStyle(String.format(BUTTON_STYLE, NEON_GREEN));
-
-
-            // 1. Atualizar Placar
-            scoreLabel.setText("Pontuação: " + partida.getPontuacao());
-            levelLabel.setText("Nível: " + partida.getNivel());
-            linesLabel.setText("Linhas: " + partida.getTotalLinhas());
+        }
 
-            // 2. Desenhar Próxima Peça
-            drawNextPiece();
+        // 1. Atualizar Placar (texto novo só quando o valor muda)
+        if (quadro.getPontuacao() != pontuacaoExibida) {
+            pontuacaoExibida = quadro.getPontuacao();
+            scoreLabel.setText("Pontuação: " + pontuacaoExibida);
+        }
+        if (quadro.getNivel() != nivelExibido) {
+            nivelExibido = quadro.getNivel();
+            levelLabel.setText("Nível: " + nivelExibido);
+        }
+        if (quadro.getTotalLinhas() != linhasExibidas) {
+            linhasExibidas = quadro.getTotalLinhas();
+            linesLabel.setText("Linhas: " + linhasExibidas);
+        }
 
-            // 3. Atualizar o ranking
-            atualizarRanking();
-        });
+        // 2. Desenhar Próxima Peça
+        drawNextPiece(quadro);
     }
 
     /**
-     * Atualiza o ranking com os 3 melhores jogadores
+     * Pede ao ServicoRanking um Top atualizado, se o cache tiver vencido.
+     * Não consulta o banco aqui: a resposta chega pelo assinante.
      */
     private void atualizarRanking() {
-        new Thread(() -> {
-            try {
-                List<RankingDAO.RegistroRanking> top3 = rankingDAO.obterTopPontuacoes(3);
+        ServicoRanking.getInstancia().solicitarAtualizacao();
+    }
 
-                Platform.runLater(() -> {
-                    for (int i = 0; i < 3; i++) {
-                        if (i < top3.size()) {
-                            RankingDAO.RegistroRanking registro = top3.get(i);
-                            rankingLabels[i].setText(
-                                    String.format("%dº %s: %d pts",
-                                            registro.posicao,
-                                            registro.nomeJogador,
-                                            registro.pontuacao));
-                        } else {
-                            rankingLabels[i].setText("-");
-                        }
-                    }
-                });
-            } catch (SQLException e) {
-                e.printStackTrace();
-                Platform.runLater(() -> {
-                    Alert alert = new Alert(Alert.AlertType.ERROR);
-                    alert.setTitle("Erro ao carregar ranking");
-                    alert.setContentText("Não foi possível carregar o ranking: " + e.getMessage());
-                    alert.show();
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    System.err.println("Erro inesperado ao carregar ranking: " + e.getMessage());
-                });
+    /**
+     * Atualiza o ranking com os 3 melhores jogadores (thread do JavaFX)
+     */
+    private void exibirRanking(List<RankingDAO.RegistroRanking> top) {
+        for (int i = 0; i < rankingLabels.length; i++) {
+            if (i < top.size()) {
+                RankingDAO.RegistroRanking registro = top.get(i);
+                rankingLabels[i].setText(
+                        String.format("%dº %s: %d pts",
+                                registro.posicao,
+                                registro.nomeJogador,
+                                registro.pontuacao));
+            } else {
+                rankingLabels[i].setText("-");
             }
-        }).start();
+        }
+    }
+
+    /**
+     * Deixa de receber o ranking. Chamado quando o painel é substituído.
+     */
+    public void descartar() {
+        ServicoRanking.getInstancia().cancelarAssinatura(assinanteRanking);
     }
     
     /**
@@ -386,7 +432,7 @@ public class ScorePanel {
         new Thread(() -> {
             try {
                 Jogador j = new Jogador(nomeTrim);
-                new JogadorDAO().salvar(j); 
+                Repositorios.jogadores().salvar(j); 
                 
                 // Após salvar, associa o jogador à Partida atual e atualiza o painel
                 Platform.runLater(() -> {
@@ -427,7 +473,7 @@ public class ScorePanel {
             messageLabel.setStyle("-fx-text-fill: " + NEON_GREEN + ";" + familyCss); 
 
             Button okButton = new Button("OK");
-            okButton.setStyle(String.format(BUTTON_STYLE, NEON_PINK)); // Rosa Neon
+            okButton.setStyle(ESTILO_BOTAO_ROSA); // Rosa Neon
             okButton.setPrefWidth(80);
             okButton.setFocusTraversable(false);
             
@@ -478,7 +524,7 @@ public class ScorePanel {
         promptLabel.setStyle("-fx-text-fill: white;" + familyCss);
 
         Button confirmButton = new Button("Salvar e Selecionar");
-        confirmButton.setStyle(String.format(BUTTON_STYLE, NEON_GREEN));
+        confirmButton.setStyle(ESTILO_BOTAO_VERDE);
         confirmButton.setFocusTraversable(false);
         
         // Configuração do Layout do Diálogo
@@ -527,41 +573,28 @@ public class ScorePanel {
     /**
      * Desenha a peça no Canvas de Pré-visualização com escala e centralização.
      */
-    private void drawNextPiece() {
+    private void drawNextPiece(QuadroJogo quadro) {
+        FormaPeca forma = quadro.getFormaProxima();
+        if (forma == formaProximaDesenhada && quadro.getIndiceCorProxima() == corProximaDesenhada) {
+            return; // mesma peça: o canvas já está certo
+        }
+        formaProximaDesenhada = forma;
+        corProximaDesenhada = quadro.getIndiceCorProxima();
+
         GraphicsContext gc = nextPieceCanvas.getGraphicsContext2D();
         gc.clearRect(0, 0, nextPieceCanvas.getWidth(), nextPieceCanvas.getHeight());
 
-        Tetromino nextTetromino = controller.getPartida().getProximoTetromino();
-        if (nextTetromino == null)
+        if (forma == null)
             return;
 
-        Color corPeca = nextTetromino.getCor();
-        gc.setFill(corPeca.equals(Color.BLACK) ? Color.GRAY : corPeca);
+        // Caixa delimitadora e células já vêm pré-calculadas na forma
+        int minX = forma.getMinX();
+        int minY = forma.getMinY();
 
-        boolean[][] forma = nextTetromino.getForma();
+        int larguraUtil = forma.getLarguraUtil();
+        int alturaUtil = forma.getAlturaUtil();
 
-        int formaLarguraMaxima = forma[0].length;
-        int minX = formaLarguraMaxima;
-        int minY = forma.length;
-        int maxX = 0;
-        int maxY = 0;
-
-        for (int i = 0; i < forma.length; i++) {
-            for (int j = 0; j < forma[i].length; j++) {
-                if (forma[i][j]) {
-                    minY = Math.min(minY, i);
-                    minX = Math.min(minX, j);
-                    maxY = Math.max(maxY, i);
-                    maxX = Math.max(maxX, j);
-                }
-            }
-        }
-
-        int larguraUtil = (maxX - minX) + 1;
-        int alturaUtil = (maxY - minY) + 1;
-
-        final double FATOR_ESCALA = 0.8;
-        final double tamanhoBlocoReduzido = tamanhoBloco * FATOR_ESCALA;
+        final double tamanhoBlocoReduzido = atlasProxima.getTamanhoBloco();
 
         double larguraTotalPeça = larguraUtil * tamanhoBlocoReduzido;
         double alturaTotalPeça = alturaUtil * tamanhoBlocoReduzido;
@@ -572,21 +605,17 @@ public class ScorePanel {
         double xOffsetRender = sobraHorizontal / 2.0;
         double yOffsetRender = sobraVertical / 2.0;
 
-        // Desenho
-        for (int i = minY; i <= maxY; i++) {
-            for (int j = minX; j <= maxX; j++) {
-                if (forma[i][j]) {
-                    double xPos = xOffsetRender + ((j - minX) * tamanhoBlocoReduzido);
-                    double yPos = yOffsetRender + ((i - minY) * tamanhoBlocoReduzido);
+        // Desenho (somente células ocupadas)
+        int[] celulasX = forma.getCelulasX();
+        int[] celulasY = forma.getCelulasY();
+        for (int c = 0; c < celulasX.length; c++) {
+            double xPos = xOffsetRender + ((celulasX[c] - minX) * tamanhoBlocoReduzido);
+            double yPos = yOffsetRender + ((celulasY[c] - minY) * tamanhoBlocoReduzido);
 
-                    double xFinal = Math.round(xPos);
-                    double yFinal = Math.round(yPos);
+            double xFinal = Math.round(xPos);
+            double yFinal = Math.round(yPos);
 
-                    gc.fillRect(xFinal, yFinal, tamanhoBlocoReduzido, tamanhoBlocoReduzido);
-                    gc.setStroke(Color.WHITE);
-                    gc.strokeRect(xFinal, yFinal, tamanhoBlocoReduzido, tamanhoBlocoReduzido);
-                }
-            }
+            atlasProxima.desenharPeca(gc, corProximaDesenhada, xFinal, yFinal);
         }
     }
 }
\ No newline at end of file
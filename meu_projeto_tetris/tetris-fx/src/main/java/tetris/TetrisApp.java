@@ -19,6 +19,7 @@ import javafx.scene.paint.Color;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import java.io.File;
+import java.io.IOException;
 import tetris.replay.ReplayManager; // Importar o Manager
 import tetris.replay.ReplayData; // Importar o ReplayData
 
@@ -33,6 +34,8 @@ public class TetrisApp extends Application {
     private StackPane root;
     private GameController controller;
     private Thread gameThread;
+    private CicloRenderizacao cicloRenderizacao;
+    private ScorePanel scorePanelAtual;
     
     private HBox mainHBox; // Referência ao HBox principal para fácil remoção
     private ImageView bgView; // Referência da imagem de fundo (carregada apenas uma vez)
@@ -49,6 +52,18 @@ public class TetrisApp extends Application {
              root.getChildren().add(bgView);
         }
         
+        // Partidas que ficaram no diário de execuções anteriores começam a ser enviadas já.
+        // Abrir a caixa lê e compacta os arquivos: fora da thread do JavaFX
+        Thread aberturaCaixa = new Thread(() -> {
+            try {
+                CaixaSaidaPartidas.getInstancia();
+            } catch (IOException e) {
+                System.err.println("Caixa de saída indisponível: " + e.getMessage());
+            }
+        }, "abertura-caixa-saida");
+        aberturaCaixa.setDaemon(true);
+        aberturaCaixa.start();
+
         // 2. Inicializa o Jogo (método auxiliar)
         initializeGame();
         
@@ -69,10 +84,13 @@ public class TetrisApp extends Application {
 
         // 6. Tratamento de Fechamento: Garante que a thread do jogo pare.
         primaryStage.setOnCloseRequest(e -> {
+            if (cicloRenderizacao != null) cicloRenderizacao.stop();
             if (controller != null) controller.stop();
             if (gameThread != null && gameThread.isAlive()) {
                 gameThread.interrupt();
             }
+            CaixaSaidaPartidas.encerrar(); // termina o lote em andamento; o resto fica no diário
+            ConexaoBD.encerrar(); // fecha o pool e mostra as métricas
             Platform.exit();
         });
     }
@@ -172,6 +190,17 @@ public class TetrisApp extends Application {
         GamePanel gamePanel = new GamePanel(controller, LARGURA_BLOCO);
         ScorePanel scorePanel = new ScorePanel(controller, LARGURA_BLOCO);
         controller.setScorePanel(scorePanel);
+        if (scorePanelAtual != null) {
+            scorePanelAtual.descartar(); // o painel anterior para de ouvir o ranking
+        }
+        scorePanelAtual = scorePanel;
+
+        // Desenho por pulso (substitui o ciclo da partida anterior)
+        if (cicloRenderizacao != null) {
+            cicloRenderizacao.stop();
+        }
+        cicloRenderizacao = new CicloRenderizacao(controller, gamePanel, scorePanel);
+        cicloRenderizacao.start();
 
         // 2. Layout Principal (HBox)
         mainHBox = new HBox(10); // Inicializa o atributo da classe
@@ -0,0 +1,112 @@
+package tetris;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.replay.ReplayEventType;
+
+class FilaComandosTest {
+
+    private static final ReplayEventType[] TIPOS = ReplayEventType.values();
+
+    @Test
+    void capacidadePrecisaSerPotenciaDeDois() {
+        assertThrows(IllegalArgumentException.class, () -> new FilaComandos(0));
+        assertThrows(IllegalArgumentException.class, () -> new FilaComandos(6));
+        assertThrows(IllegalArgumentException.class, () -> new FilaComandos(-8));
+    }
+
+    @Test
+    void filaVaziaNaoEntregaNada() {
+        FilaComandos fila = new FilaComandos(4);
+        assertEquals(0, fila.drenar((tipo, instante) -> {
+            throw new AssertionError("nada para drenar");
+        }));
+        assertEquals(0, fila.getDescartados());
+    }
+
+    @Test
+    void filaCheiaDescartaEContaSemPerderOsAnteriores() {
+        FilaComandos fila = new FilaComandos(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(fila.oferecer(TIPOS[i], i));
+        }
+        assertFalse(fila.oferecer(ReplayEventType.HARD_DROP, 99));
+        assertFalse(fila.oferecer(ReplayEventType.HARD_DROP, 100));
+        assertEquals(2, fila.getDescartados());
+
+        List<Long> instantes = new ArrayList<>();
+        assertEquals(4, fila.drenar((tipo, instante) -> {
+            assertEquals(TIPOS[(int) instante], tipo);
+            instantes.add(instante);
+        }));
+        assertEquals(List.of(0L, 1L, 2L, 3L), instantes);
+
+        // Drenada, volta a aceitar
+        assertTrue(fila.oferecer(ReplayEventType.ROTATE, 5));
+        assertEquals(1, fila.drenar((tipo, instante) -> assertEquals(5, instante)));
+    }
+
+    @Test
+    void daVoltaNoBufferMantendoAOrdem() {
+        FilaComandos fila = new FilaComandos(8);
+        long proximoOferecido = 0;
+        long[] proximoDrenado = {0};
+        // Lotes de tamanhos variados para a cauda passar muitas vezes pelo fim do array em posições diferentes
+        for (int rodada = 0; rodada < 1000; rodada++) {
+            int lote = 1 + rodada % 8;
+            for (int i = 0; i < lote; i++) {
+                assertTrue(fila.oferecer(TIPOS[(int) (proximoOferecido % TIPOS.length)], proximoOferecido));
+                proximoOferecido++;
+            }
+            int drenados = fila.drenar((tipo, instante) -> {
+                assertEquals(proximoDrenado[0], instante);
+                assertEquals(TIPOS[(int) (instante % TIPOS.length)], tipo);
+                proximoDrenado[0]++;
+            });
+            assertEquals(lote, drenados);
+        }
+        assertEquals(proximoOferecido, proximoDrenado[0]);
+        assertEquals(0, fila.getDescartados());
+    }
+
+    @Test
+    void produtorEConsumidorEmThreadsDiferentes() throws InterruptedException {
+        final int total = 100_000;
+        FilaComandos fila = new FilaComandos(16);
+        // yield em vez de espera ativa: com um núcleo só, as duas threads girando se revezam por fatia de tempo
+        Thread produtor = new Thread(() -> {
+            for (long i = 0; i < total; i++) {
+                while (!fila.oferecer(TIPOS[(int) (i % TIPOS.length)], i)) {
+                    Thread.yield();
+                }
+            }
+        }, "produtor-teste");
+        produtor.setDaemon(true);
+        produtor.start();
+
+        long[] esperado = {0};
+        while (esperado[0] < total) {
+            int drenados = fila.drenar((tipo, instante) -> {
+                assertEquals(esperado[0], instante);
+                assertEquals(TIPOS[(int) (instante % TIPOS.length)], tipo);
+                esperado[0]++;
+            });
+            if (drenados == 0) {
+                Thread.yield();
+            }
+        }
+        produtor.join(10_000);
+        assertFalse(produtor.isAlive());
+        assertEquals(0, fila.drenar((tipo, instante) -> {
+            throw new AssertionError("sobrou comando");
+        }));
+    }
+}
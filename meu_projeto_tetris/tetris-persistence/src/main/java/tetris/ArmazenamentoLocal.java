@@ -0,0 +1,273 @@
+package tetris;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Armazenamento local, sem servidor: um único arquivo só de acréscimos
+ * (ArquivoRegistros) com jogadores, partidas e remoções, carregado inteiro
+ * na memória ao abrir. Implementa os três repositórios; serve para
+ * quiosques e bancadas de teste sem MySQL.
+ *
+ * Cada operação vira um registro; salvar(RegistroPartida) grava jogador e
+ * partida no mesmo registro (tudo ou nada) e ignora IDs de partida já
+ * gravados; salvarLote faz o mesmo com o lote inteiro num só registro.
+ * As estatísticas do jogador (total de partidas, melhor pontuação) não são
+ * gravadas à parte: saem das próprias partidas.
+ *
+ * Leituras são servidas da memória; por padrão a escrita vai para o cache
+ * do sistema operacional sem fsync (-Dtetris.persistencia.sincronizar=true
+ * força o disco a cada registro). Thread-safe.
+ */
+public class ArmazenamentoLocal implements RepositorioJogadores, RepositorioPartidas, RepositorioRanking {
+
+    private static final int MAGICO = 0x54545244; // "TTRD"
+
+    // Tipos de entrada dentro de um registro
+    private static final byte JOGADOR = 1;
+    private static final byte PARTIDA = 2;
+    private static final byte REMOCAO_JOGADOR = 3;
+
+    /** Partida gravada (só o necessário para o ranking). */
+    private static final class PartidaGravada {
+        final UUID id;
+        final UUID jogadorId;
+        final int pontuacao;
+
+        PartidaGravada(UUID id, UUID jogadorId, int pontuacao) {
+            this.id = id;
+            this.jogadorId = jogadorId;
+            this.pontuacao = pontuacao;
+        }
+    }
+
+    private final ArquivoRegistros arquivo;
+
+    private final Map<UUID, String> nomes = new HashMap<>();
+    // Ordenadas por pontuação decrescente; empates na ordem de gravação
+    private final List<PartidaGravada> partidas = new ArrayList<>();
+    private final Set<UUID> idsPartidas = new HashSet<>();
+
+    public ArmazenamentoLocal(Path arquivo, boolean sincronizar) throws IOException {
+        this.arquivo = new ArquivoRegistros(arquivo, MAGICO, sincronizar);
+        // Registro não reconhecido (gravado por uma versão mais nova?): não abre, para não gravar atrás dele
+        if (!this.arquivo.ler(this::aplicar)) {
+            this.arquivo.close();
+            throw new IOException("Registro não reconhecido em " + arquivo + "; o arquivo foi mantido intacto");
+        }
+    }
+
+    public Path getArquivo() {
+        return arquivo.getArquivo();
+    }
+
+    // --- JOGADORES ---
+
+    @Override
+    public synchronized void salvar(Jogador jogador) throws SQLException {
+        gravar(saida -> escreverJogador(saida, jogador.getId(), jogador.getNome()));
+        nomes.put(jogador.getId(), jogador.getNome());
+    }
+
+    @Override
+    public synchronized Jogador buscarPorId(UUID id) {
+        String nome = nomes.get(id);
+        return nome == null ? null : new Jogador(id, nome);
+    }
+
+    @Override
+    public synchronized void deletar(UUID id) throws SQLException {
+        gravar(saida -> {
+            saida.writeByte(REMOCAO_JOGADOR);
+            saida.writeUTF(id.toString());
+        });
+        aplicarRemocao(id);
+        ServicoRanking.getInstancia().invalidar();
+    }
+
+    // --- PARTIDAS ---
+
+    @Override
+    public void salvar(RegistroPartida registro) throws SQLException {
+        salvarLote(List.of(registro));
+    }
+
+    // O lote inteiro vira um único registro do arquivo (tudo ou nada)
+    @Override
+    public int salvarLote(List<RegistroPartida> registros) throws SQLException {
+        List<RegistroPartida> novas = new ArrayList<>(registros.size());
+        synchronized (this) {
+            Set<UUID> noLote = new HashSet<>();
+            for (RegistroPartida registro : registros) {
+                // já gravada (reenvio) ou repetida no lote
+                if (!idsPartidas.contains(registro.getId()) && noLote.add(registro.getId())) {
+                    novas.add(registro);
+                }
+            }
+            if (novas.isEmpty()) {
+                return 0;
+            }
+            gravar(saida -> {
+                for (RegistroPartida registro : novas) {
+                    escreverJogador(saida, registro.getJogadorId(), registro.getNomeJogador());
+                    saida.writeByte(PARTIDA);
+                    saida.writeUTF(registro.getId().toString());
+                    saida.writeUTF(registro.getJogadorId().toString());
+                    saida.writeInt(registro.getPontuacao());
+                    saida.writeInt(registro.getTotalLinhas());
+                    saida.writeInt(registro.getNivel());
+                    saida.writeLong(registro.getDuracaoSegundos());
+                    saida.writeLong(registro.getEncerradaEmMs());
+                }
+            });
+            for (RegistroPartida registro : novas) {
+                nomes.put(registro.getJogadorId(), registro.getNomeJogador());
+                adicionarPartida(new PartidaGravada(registro.getId(), registro.getJogadorId(), registro.getPontuacao()));
+            }
+        }
+        ServicoRanking.getInstancia().invalidar();
+        return novas.size();
+    }
+
+    // --- RANKING ---
+
+    @Override
+    public synchronized List<RankingDAO.RegistroRanking> obterTopPontuacoes(int limite) {
+        List<RankingDAO.RegistroRanking> ranking = new ArrayList<>();
+        for (int i = 0; i < partidas.size() && ranking.size() < limite; i++) {
+            PartidaGravada p = partidas.get(i);
+            ranking.add(new RankingDAO.RegistroRanking(ranking.size() + 1, nomes.get(p.jogadorId), p.pontuacao));
+        }
+        return ranking;
+    }
+
+    @Override
+    public synchronized List<RankingDAO.RegistroRanking> obterRankingPorJogador(String jogadorId, int limite) {
+        List<RankingDAO.RegistroRanking> ranking = new ArrayList<>();
+        UUID id;
+        try {
+            id = UUID.fromString(jogadorId);
+        } catch (IllegalArgumentException e) {
+            return ranking; // ID inválido não casa com nenhuma partida
+        }
+        String nome = nomes.get(id);
+        for (int i = 0; i < partidas.size() && ranking.size() < limite; i++) {
+            PartidaGravada p = partidas.get(i);
+            if (p.jogadorId.equals(id)) {
+                ranking.add(new RankingDAO.RegistroRanking(ranking.size() + 1, nome, p.pontuacao));
+            }
+        }
+        return ranking;
+    }
+
+    // --- ARQUIVO ---
+
+    private interface Escrita {
+        void escrever(DataOutputStream saida) throws IOException;
+    }
+
+    private static void escreverJogador(DataOutputStream saida, UUID id, String nome) throws IOException {
+        saida.writeByte(JOGADOR);
+        saida.writeUTF(id.toString());
+        saida.writeUTF(nome);
+    }
+
+    // Monta o registro inteiro na memória e o acrescenta ao arquivo numa única escrita
+    private void gravar(Escrita escrita) throws SQLException {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream saida = new DataOutputStream(bytes);
+            escrita.escrever(saida);
+            saida.flush();
+            arquivo.acrescentar(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new SQLException("Falha ao gravar em " + arquivo.getArquivo() + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Aplica as entradas de um registro lido na abertura; false se o conteúdo não for reconhecido.
+    // O registro inteiro é lido antes de mexer na memória: tudo ou nada, como na gravação
+    private boolean aplicar(byte[] registro) throws IOException {
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(registro));
+        List<Runnable> entradas = new ArrayList<>();
+        try {
+            while (entrada.available() > 0) {
+                byte tipo = entrada.readByte();
+                switch (tipo) {
+                    case JOGADOR:
+                        UUID jogador = UUID.fromString(entrada.readUTF());
+                        String nome = entrada.readUTF();
+                        entradas.add(() -> nomes.put(jogador, nome));
+                        break;
+                    case PARTIDA:
+                        UUID id = UUID.fromString(entrada.readUTF());
+                        UUID jogadorId = UUID.fromString(entrada.readUTF());
+                        int pontuacao = entrada.readInt();
+                        entrada.readInt();  // linhas
+                        entrada.readInt();  // nível
+                        entrada.readLong(); // duração
+                        entrada.readLong(); // instante
+                        PartidaGravada partida = new PartidaGravada(id, jogadorId, pontuacao);
+                        entradas.add(() -> adicionarPartida(partida));
+                        break;
+                    case REMOCAO_JOGADOR:
+                        UUID removido = UUID.fromString(entrada.readUTF());
+                        entradas.add(() -> aplicarRemocao(removido));
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        } catch (EOFException | IllegalArgumentException e) {
+            return false;
+        }
+        for (Runnable aplicacao : entradas) {
+            aplicacao.run();
+        }
+        return true;
+    }
+
+    private void aplicarRemocao(UUID jogadorId) {
+        nomes.remove(jogadorId);
+        partidas.removeIf(p -> p.jogadorId.equals(jogadorId));
+    }
+
+    private void adicionarPartida(PartidaGravada partida) {
+        if (idsPartidas.add(partida.id)) {
+            inserirOrdenada(partida);
+        }
+    }
+
+    // Depois das de pontuação maior ou igual: empates ficam na ordem de gravação
+    private void inserirOrdenada(PartidaGravada partida) {
+        int baixo = 0;
+        int alto = partidas.size();
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (partidas.get(meio).pontuacao >= partida.pontuacao) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        partidas.add(baixo, partida);
+    }
+
+    /** Fecha o arquivo. */
+    public synchronized void fechar() throws IOException {
+        arquivo.close();
+    }
+}
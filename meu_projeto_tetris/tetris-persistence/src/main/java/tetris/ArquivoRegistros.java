@@ -0,0 +1,186 @@
+package tetris;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Arquivo só de acréscimos (append-only) de registros binários, usado pelo
+ * ArmazenamentoLocal e pela CaixaSaidaPartidas.
+ *
+ * Formato: cabeçalho [mágico][versão] e depois registros
+ * [tamanho][CRC32][conteúdo], cada um gravado com uma única escrita no fim
+ * do arquivo. Na leitura, um registro final incompleto ou corrompido
+ * (queda no meio da escrita) é descartado e o arquivo é truncado no último
+ * registro íntegro; se a escrita falhar, o pedaço gravado é desfeito. Um
+ * registro íntegro que o leitor não reconhece nunca é apagado.
+ *
+ * Por padrão a escrita vai para o cache do sistema operacional (sobrevive
+ * à queda do processo, não à do sistema); com sincronizar, cada registro
+ * vai para o disco (fsync) antes de acrescentar retornar.
+ */
+final class ArquivoRegistros implements Closeable {
+
+    /** Recebe o conteúdo de cada registro íntegro, em ordem; false interrompe a leitura ali. */
+    interface Leitor {
+        boolean aplicar(byte[] conteudo) throws IOException;
+    }
+
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 8;
+    private static final int TAMANHO_PREFIXO = 8;
+    private static final int TAMANHO_MAXIMO_REGISTRO = 1 << 20;
+
+    private final Path arquivo;
+    private final boolean sincronizar;
+    private final FileChannel canal;
+
+    ArquivoRegistros(Path arquivo, int magico, boolean sincronizar) throws IOException {
+        this.arquivo = arquivo;
+        this.sincronizar = sincronizar;
+        Path pasta = arquivo.toAbsolutePath().getParent();
+        if (pasta != null) {
+            Files.createDirectories(pasta);
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            validarCabecalho(magico);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    private void validarCabecalho(int magico) throws IOException {
+        if (canal.size() == 0) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).putInt(magico).putInt(VERSAO).flip();
+            canal.write(cabecalho, 0);
+            return;
+        }
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        canal.read(cabecalho, 0);
+        cabecalho.flip();
+        if (cabecalho.remaining() < TAMANHO_CABECALHO || cabecalho.getInt() != magico) {
+            throw new IOException("Formato de arquivo desconhecido: " + arquivo);
+        }
+        int versao = cabecalho.getInt();
+        if (versao != VERSAO) {
+            throw new IOException("Versão de arquivo não suportada (" + versao + "): " + arquivo);
+        }
+    }
+
+    Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Entrega os registros íntegros ao leitor, do início ao fim, e trunca
+     * o que sobrar depois do último (registro incompleto ou com CRC errado).
+     * Se o leitor recusar um registro, a leitura para ali e o arquivo fica
+     * como está.
+     * @return false se o leitor interrompeu a leitura.
+     */
+    synchronized boolean ler(Leitor leitor) throws IOException {
+        long posicao = TAMANHO_CABECALHO;
+        long tamanhoArquivo = canal.size();
+        ByteBuffer prefixo = ByteBuffer.allocate(TAMANHO_PREFIXO);
+        while (posicao + TAMANHO_PREFIXO <= tamanhoArquivo) {
+            prefixo.clear();
+            canal.read(prefixo, posicao);
+            int tamanho = prefixo.getInt(0);
+            int crcGravado = prefixo.getInt(4);
+            if (tamanho <= 0 || tamanho > TAMANHO_MAXIMO_REGISTRO
+                    || posicao + TAMANHO_PREFIXO + tamanho > tamanhoArquivo) {
+                break;
+            }
+            ByteBuffer conteudo = ByteBuffer.allocate(tamanho);
+            canal.read(conteudo, posicao + TAMANHO_PREFIXO);
+            CRC32 crc = new CRC32();
+            crc.update(conteudo.array(), 0, tamanho);
+            if ((int) crc.getValue() != crcGravado) {
+                break;
+            }
+            if (!leitor.aplicar(conteudo.array())) {
+                return false;
+            }
+            posicao += TAMANHO_PREFIXO + tamanho;
+        }
+        if (posicao < tamanhoArquivo) {
+            System.err.println("Descartando " + (tamanhoArquivo - posicao) + " bytes finais incompletos de "
+                    + arquivo);
+            canal.truncate(posicao);
+        }
+        return true;
+    }
+
+    /** Acrescenta um registro no fim do arquivo (tudo ou nada). */
+    synchronized void acrescentar(byte[] conteudo) throws IOException {
+        if (conteudo.length == 0 || conteudo.length > TAMANHO_MAXIMO_REGISTRO) {
+            throw new IOException("Tamanho de registro inválido: " + conteudo.length);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(conteudo, 0, conteudo.length);
+        ByteBuffer registro = ByteBuffer.allocate(TAMANHO_PREFIXO + conteudo.length);
+        registro.putInt(conteudo.length).putInt((int) crc.getValue()).put(conteudo).flip();
+
+        long inicio = canal.size();
+        try {
+            long posicao = inicio;
+            while (registro.hasRemaining()) {
+                posicao += canal.write(registro, posicao);
+            }
+            if (sincronizar) {
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            // Não deixa meio registro no fim: os registros seguintes seriam perdidos na próxima leitura
+            try {
+                canal.truncate(inicio);
+            } catch (IOException truncarEx) {
+                e.addSuppressed(truncarEx);
+            }
+            throw e;
+        }
+    }
+
+    /** Remove todos os registros (mantém o cabeçalho). */
+    synchronized void esvaziar() throws IOException {
+        canal.truncate(TAMANHO_CABECALHO);
+        if (sincronizar) {
+            canal.force(false);
+        }
+    }
+
+    /**
+     * Esvazia só se o arquivo ainda tem o tamanho informado (nada foi
+     * acrescentado desde que ele foi lido). Retorna true se esvaziou.
+     */
+    synchronized boolean esvaziarSeTamanho(long tamanho) throws IOException {
+        if (canal.size() != tamanho) {
+            return false;
+        }
+        esvaziar();
+        return true;
+    }
+
+    /** Tamanho atual do arquivo, em bytes (cabeçalho incluído). */
+    synchronized long getTamanho() throws IOException {
+        return canal.size();
+    }
+
+    /** true se não há nenhum registro gravado. */
+    synchronized boolean isVazio() throws IOException {
+        return canal.size() <= TAMANHO_CABECALHO;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,326 @@
+package tetris;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caixa de saída (write-behind) das partidas encerradas.
+ *
+ * enfileirar() só acrescenta o registro ao diário local (partidas
+ * pendentes) e retorna: o fim de jogo não espera o banco. Uma thread de
+ * fundo ("gravacao-partidas") envia os pendentes em lotes de até 32 ao
+ * repositório (salvarLote: uma transação por lote) e, a cada lote aceito,
+ * acrescenta os IDs ao arquivo de confirmadas. Se o banco falhar, o lote
+ * inteiro é tentado de novo com espera crescente (1 s, 2 s, 4 s... até
+ * 1 min); nada é descartado. Partidas que chegam durante um envio saem
+ * juntas no lote seguinte, o que agrupa as gravações quando muitas
+ * partidas terminam ao mesmo tempo (modo servidor: HostPartidas.aoEncerrar
+ * pode enfileirar aqui).
+ *
+ * Na abertura, pendentes que não aparecem nas confirmadas voltam para a
+ * fila; quando a fila esvazia, os dois arquivos são zerados. Uma queda
+ * entre gravar no banco e confirmar faz a partida ser reenviada, e o ID do
+ * RegistroPartida garante que o repositório não a duplique.
+ */
+public class CaixaSaidaPartidas {
+
+    private static final int MAGICO_PENDENTES = 0x54545050;   // "TTPP"
+    private static final int MAGICO_CONFIRMADAS = 0x54545043; // "TTPC"
+
+    private static final int TAMANHO_LOTE = 32;
+    private static final long ESPERA_INICIAL_MS = 1_000;
+    private static final long ESPERA_MAXIMA_MS = 60_000;
+    private static final long ESPERA_ENCERRAMENTO_MS = 2_000;
+
+    private static CaixaSaidaPartidas instancia; // criada no primeiro uso
+
+    private final ArquivoRegistros pendentes;
+    private final ArquivoRegistros confirmadas;
+    private final RepositorioPartidas destino;
+    private final Thread trabalhador;
+
+    // Guardados pelo monitor da caixa (também protege a ordem diário -> fila)
+    private final Deque<RegistroPartida> fila = new ArrayDeque<>();
+    private boolean encerrando = false;
+
+    // --- MÉTRICAS ---
+    private volatile long enfileiradas = 0;
+    private volatile long gravadas = 0;
+    private volatile long lotes = 0;
+    private volatile long falhas = 0;
+
+    /**
+     * Caixa compartilhada pelo jogo, com os arquivos na pasta de trabalho
+     * (-Dtetris.persistencia.pendentes muda o diário; as confirmadas ficam
+     * ao lado, com sufixo .confirmadas). Envia para Repositorios.partidas(),
+     * consultado a cada lote: no modo auto, passa a ser o MySQL quando ele voltar.
+     */
+    public static synchronized CaixaSaidaPartidas getInstancia() throws IOException {
+        if (instancia == null) {
+            Path arquivo = Path.of(System.getProperty("tetris.persistencia.pendentes", "partidas_pendentes.dat"));
+            Path arquivoConfirmadas = arquivo.resolveSibling(arquivo.getFileName() + ".confirmadas");
+            instancia = new CaixaSaidaPartidas(arquivo, arquivoConfirmadas, null,
+                    Boolean.getBoolean("tetris.persistencia.sincronizar"));
+        }
+        return instancia;
+    }
+
+    /**
+     * Para a caixa compartilhada (se ela chegou a ser criada), esperando o
+     * lote em andamento por até 2 s. O que não foi enviado continua no
+     * diário para a próxima execução.
+     */
+    public static synchronized void encerrar() {
+        if (instancia != null) {
+            System.out.println(instancia.resumo());
+            instancia.parar(ESPERA_ENCERRAMENTO_MS);
+            instancia = null;
+        }
+    }
+
+    /**
+     * @param destino repositório que recebe as partidas; null para usar Repositorios.partidas()
+     * @param sincronizar fsync a cada registro do diário
+     */
+    public CaixaSaidaPartidas(Path arquivoPendentes, Path arquivoConfirmadas, RepositorioPartidas destino,
+            boolean sincronizar) throws IOException {
+        this.destino = destino;
+        this.pendentes = new ArquivoRegistros(arquivoPendentes, MAGICO_PENDENTES, sincronizar);
+        try {
+            this.confirmadas = new ArquivoRegistros(arquivoConfirmadas, MAGICO_CONFIRMADAS, sincronizar);
+        } catch (IOException e) {
+            pendentes.close();
+            throw e;
+        }
+        try {
+            recuperar();
+        } catch (IOException e) {
+            pendentes.close();
+            confirmadas.close();
+            throw e;
+        }
+
+        this.trabalhador = new Thread(this::enviarPendentes, "gravacao-partidas");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    // Pendentes do diário menos as já confirmadas voltam para a fila. Um registro não reconhecido
+    // impede a abertura: os arquivos ficam intactos e nenhuma partida se perde
+    private void recuperar() throws IOException {
+        Set<UUID> jaConfirmadas = new HashSet<>();
+        boolean confirmadasLidas = confirmadas.ler(conteudo -> {
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(conteudo));
+            try {
+                int total = entrada.readInt();
+                for (int i = 0; i < total; i++) {
+                    jaConfirmadas.add(new UUID(entrada.readLong(), entrada.readLong()));
+                }
+                return true;
+            } catch (EOFException e) {
+                return false;
+            }
+        });
+        if (!confirmadasLidas) {
+            throw new IOException("Registro não reconhecido em " + confirmadas.getArquivo());
+        }
+        boolean pendentesLidas = pendentes.ler(conteudo -> {
+            try {
+                RegistroPartida registro = RegistroPartida.ler(new DataInputStream(new ByteArrayInputStream(conteudo)));
+                if (!jaConfirmadas.contains(registro.getId())) {
+                    fila.addLast(registro);
+                }
+                return true;
+            } catch (EOFException | IllegalArgumentException e) {
+                return false;
+            }
+        });
+        if (!pendentesLidas) {
+            throw new IOException("Registro não reconhecido em " + pendentes.getArquivo());
+        }
+        if (fila.isEmpty()) {
+            compactar(pendentes.getTamanho());
+        } else {
+            System.out.println("Caixa de saída: " + fila.size() + " partida(s) pendente(s) de execuções anteriores.");
+        }
+    }
+
+    /**
+     * Grava a partida no diário local e a põe na fila de envio. Retorna
+     * assim que o registro está no arquivo.
+     * @throws IOException se o diário não puder ser gravado (a partida não foi aceita).
+     */
+    public void enfileirar(RegistroPartida registro) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream saida = new DataOutputStream(bytes);
+        registro.escrever(saida);
+        saida.flush();
+        synchronized (this) {
+            if (encerrando) {
+                throw new IOException("Caixa de saída encerrada");
+            }
+            pendentes.acrescentar(bytes.toByteArray());
+            fila.addLast(registro);
+            enfileiradas++;
+            notifyAll();
+        }
+    }
+
+    // --- TRABALHADOR ---
+
+    // Thread "gravacao-partidas"
+    private void enviarPendentes() {
+        long espera = ESPERA_INICIAL_MS;
+        boolean emFalha = false;
+        while (true) {
+            List<RegistroPartida> lote;
+            synchronized (this) {
+                while (fila.isEmpty() && !encerrando) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (encerrando) {
+                    return;
+                }
+                lote = new ArrayList<>(Math.min(fila.size(), TAMANHO_LOTE));
+                Iterator<RegistroPartida> it = fila.iterator();
+                while (it.hasNext() && lote.size() < TAMANHO_LOTE) {
+                    lote.add(it.next());
+                }
+            }
+
+            try {
+                RepositorioPartidas repositorio = destino != null ? destino : Repositorios.partidas();
+                repositorio.salvarLote(lote);
+                confirmar(lote);
+                lotes++;
+                if (emFalha) {
+                    System.out.println("Caixa de saída: gravação restabelecida.");
+                    emFalha = false;
+                }
+                espera = ESPERA_INICIAL_MS;
+            } catch (SQLException | IOException | RuntimeException e) {
+                falhas++;
+                if (!emFalha) {
+                    System.err.println("Caixa de saída: falha ao gravar partidas (" + e.getMessage()
+                            + "); tentando de novo em segundo plano.");
+                    emFalha = true;
+                }
+                // Novas partidas na fila não encurtam a espera; só o encerramento
+                long ate = System.nanoTime() + espera * 1_000_000L;
+                synchronized (this) {
+                    try {
+                        long restanteMs;
+                        while (!encerrando && (restanteMs = (ate - System.nanoTime()) / 1_000_000L) > 0) {
+                            wait(restanteMs);
+                        }
+                    } catch (InterruptedException ie) {
+                        return;
+                    }
+                }
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_MS);
+            }
+        }
+    }
+
+    // Registra os IDs como confirmados e os tira da fila (o lote é sempre o início da fila)
+    private void confirmar(List<RegistroPartida> enviadas) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4 + 16 * enviadas.size());
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeInt(enviadas.size());
+        for (RegistroPartida registro : enviadas) {
+            saida.writeLong(registro.getId().getMostSignificantBits());
+            saida.writeLong(registro.getId().getLeastSignificantBits());
+        }
+        saida.flush();
+        confirmadas.acrescentar(bytes.toByteArray());
+
+        long tamanhoDiario;
+        synchronized (this) {
+            for (int i = 0; i < enviadas.size(); i++) {
+                fila.pollFirst();
+            }
+            gravadas += enviadas.size();
+            if (!fila.isEmpty()) {
+                return;
+            }
+            // Com a fila vazia, tudo que está no diário até aqui foi confirmado
+            tamanhoDiario = pendentes.getTamanho();
+        }
+        compactar(tamanhoDiario);
+    }
+
+    /**
+     * Tudo confirmado: zera o diário e depois as confirmadas. Fora do
+     * monitor (enfileirar não espera pelo disco); se uma partida nova entrou
+     * no diário desde que a fila esvaziou, o tamanho não confere e a
+     * compactação fica para a próxima vez. Só o trabalhador (ou a abertura)
+     * chama, então nenhuma confirmação nova aparece no meio.
+     */
+    private void compactar(long tamanhoDiario) throws IOException {
+        if (pendentes.esvaziarSeTamanho(tamanhoDiario)) {
+            confirmadas.esvaziar();
+        }
+    }
+
+    void parar(long esperaMs) {
+        synchronized (this) {
+            encerrando = true;
+            notifyAll();
+        }
+        try {
+            trabalhador.join(esperaMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (trabalhador.isAlive()) {
+            return; // ainda dentro do banco; a thread é daemon e os arquivos ficam como estão
+        }
+        try {
+            pendentes.close();
+            confirmadas.close();
+        } catch (IOException e) {
+            System.err.println("Caixa de saída: erro ao fechar arquivos: " + e.getMessage());
+        }
+    }
+
+    // --- MÉTRICAS ---
+
+    public synchronized int getPendentes() {
+        return fila.size();
+    }
+
+    public long getEnfileiradas() {
+        return enfileiradas;
+    }
+
+    public long getGravadas() {
+        return gravadas;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    public String resumo() {
+        return String.format("Caixa de saída: %d enfileiradas, %d gravadas em %d lotes, %d pendentes, %d falhas",
+                enfileiradas, gravadas, lotes, getPendentes(), falhas);
+    }
+}
@@ -0,0 +1,81 @@
+package tetris;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+
+/**
+ * Classe utilitária para gerenciar a conexão JDBC com o banco de dados.
+ * Baseado na Aula 4 - Configuração JDBC.
+ */
+public class ConexaoBD {
+    // Configurações do Banco de Dados (ATENÇÃO: SUBSTITUA ESSES VALORES)
+    private static final String URL = "jdbc:mysql://localhost:3306/tetris_db"; 
+    private static final String USUARIO = "root"; 
+    private static final String SENHA = ""; 
+
+    // Cache de PreparedStatement do driver (por conexão física, por isso depende do pool).
+    // connectTimeout limita a espera quando o servidor não responde (modo auto de Repositorios).
+    // rewriteBatchedStatements junta os lotes (addBatch) de INSERT num único comando multi-valores
+    private static final String PROPRIEDADES_URL = "?cachePrepStmts=true&prepStmtCacheSize=250"
+            + "&prepStmtCacheSqlLimit=2048&useServerPrepStmts=true&connectTimeout=3000"
+            + "&rewriteBatchedStatements=true";
+
+    // Pool: ajustável com -Dtetris.bd.pool.tamanho, .esperaMs e .ociosidadeMs
+    private static final int TAMANHO_POOL = Integer.getInteger("tetris.bd.pool.tamanho", 4);
+    private static final long ESPERA_MAXIMA_MS = Long.getLong("tetris.bd.pool.esperaMs", 5_000L);
+    private static final long OCIOSIDADE_MAXIMA_MS = Long.getLong("tetris.bd.pool.ociosidadeMs", 300_000L);
+
+    private static PoolConexoes pool; // criado no primeiro uso
+
+    static {
+        try {
+            // Carrega o driver MySQL
+            Class.forName("com.mysql.cj.jdbc.Driver"); 
+        } catch (ClassNotFoundException e) {
+            // Se o driver não for encontrado (verifique o pom.xml)
+            throw new RuntimeException("Driver MySQL não encontrado. Verifique a dependência no pom.xml!", e);
+        }
+    }
+
+    /**
+     * Obtém uma conexão do pool. close() a devolve ao pool.
+     * @return Objeto Connection.
+     * @throws SQLException Se a conexão falhar ou o pool continuar esgotado.
+     */
+    public static Connection obterConexao() throws SQLException {
+        return getPool().obterConexao();
+    }
+
+    public static synchronized PoolConexoes getPool() {
+        if (pool == null) {
+            pool = new PoolConexoes(URL + PROPRIEDADES_URL, USUARIO, SENHA, TAMANHO_POOL, ESPERA_MAXIMA_MS,
+                    OCIOSIDADE_MAXIMA_MS);
+        }
+        return pool;
+    }
+
+    /**
+     * Fecha as conexões ociosas do pool (se ele chegou a ser criado) e
+     * imprime suas métricas. Chamado no encerramento do aplicativo.
+     */
+    public static synchronized void encerrar() {
+        if (pool != null) {
+            System.out.println(pool.resumo());
+            pool.fechar();
+            pool = null;
+        }
+    }
+
+    /**
+     * Método principal para testar a conexão (opcional, mas recomendado).
+     */
+    public static void main(String[] args) {
+        try (Connection conn = obterConexao()) {
+            System.out.println("Conexão estabelecida com sucesso! Database: " + conn.getCatalog());
+        } catch (SQLException e) {
+            System.err.println("Erro ao conectar: " + e.getMessage());
+        }
+        encerrar();
+    }
+}
\ No newline at end of file
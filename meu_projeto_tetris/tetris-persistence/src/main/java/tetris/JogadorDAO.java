@@ -5,6 +5,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -12,17 +14,17 @@ import java.util.UUID;
  * Gerencia a persistência entre o objeto de domínio e o banco de dados (JDBC).
  * Baseado na Aula 4, Slide 28.
  */
-public class JogadorDAO {
+public class JogadorDAO implements RepositorioJogadores {
 
     /**
      * Salva ou atualiza um Jogador no banco de dados.
      * Implementa a lógica de INSERT/UPDATE conforme o TDD.
      */
+    @Override
     public void salvar(Jogador jogador) throws SQLException {
-        // Tenta fazer um UPDATE primeiro (se o jogador já existe)
-        if (atualizar(jogador) == 0) {
-            // Se o UPDATE afetou 0 linhas, faz um INSERT (jogador é novo)
-            inserir(jogador);
+        // UPDATE e INSERT na mesma conexão (uma ida ao pool em vez de duas)
+        try (Connection conn = ConexaoBD.obterConexao()) {
+            salvar(jogador, conn);
         }
     }
 
@@ -31,62 +33,30 @@ public class JogadorDAO {
      * já abertas (evita abrir/fechar conexões adicionais).
      */
     public void salvar(Jogador jogador, Connection conn) throws SQLException {
-        // Tenta atualizar usando a conexão fornecida
-        if (atualizar(jogador, conn) == 0) {
-            inserir(jogador, conn);
-        }
-    }
-    
-    private int inserir(Jogador jogador) throws SQLException {
-        String sql = "INSERT INTO jogadores (id, nome) VALUES (?, ?)";
-        
-        try (Connection conn = ConexaoBD.obterConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, jogador.getId().toString()); 
-            stmt.setString(2, jogador.getNome());
-            
-            return stmt.executeUpdate();
-        }
+        salvarLote(List.of(jogador), conn);
     }
 
-    // inserir que usa conexão existente
-    private int inserir(Jogador jogador, Connection conn) throws SQLException {
-        String sql = "INSERT INTO jogadores (id, nome) VALUES (?, ?)";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, jogador.getId().toString());
-            stmt.setString(2, jogador.getNome());
-            return stmt.executeUpdate();
-        }
-    }
-    
-    private int atualizar(Jogador jogador) throws SQLException {
+    /**
+     * Insere ou atualiza vários jogadores na conexão provista, num único lote
+     * JDBC (um upsert por jogador, em vez de UPDATE e depois INSERT).
+     */
+    public void salvarLote(Collection<Jogador> jogadores, Connection conn) throws SQLException {
         // Atualizamos apenas o nome, pois a identidade (ID) nunca muda.
-        String sql = "UPDATE jogadores SET nome = ? WHERE id = ?";
-        
-        try (Connection conn = ConexaoBD.obterConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, jogador.getNome());
-            stmt.setString(2, jogador.getId().toString());
-            
-            return stmt.executeUpdate();
-        }
-    }
-
-    // atualizar que usa conexão existente
-    private int atualizar(Jogador jogador, Connection conn) throws SQLException {
-        String sql = "UPDATE jogadores SET nome = ? WHERE id = ?";
+        String sql = "INSERT INTO jogadores (id, nome) VALUES (?, ?) ON DUPLICATE KEY UPDATE nome = VALUES(nome)";
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, jogador.getNome());
-            stmt.setString(2, jogador.getId().toString());
-            return stmt.executeUpdate();
+            for (Jogador jogador : jogadores) {
+                stmt.setString(1, jogador.getId().toString());
+                stmt.setString(2, jogador.getNome());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         }
     }
 
     /**
      * Busca um Jogador pelo seu ID (UUID) e reconstrói a Entidade.
      */
+    @Override
     public Jogador buscarPorId(UUID id) throws SQLException {
         String sql = "SELECT id, nome FROM jogadores WHERE id = ?";
         
@@ -111,6 +81,7 @@ public class JogadorDAO {
     /**
      * Deleta um Jogador do banco de dados (Necessário para os testes de limpeza).
      */
+   @Override
    public void deletar(UUID id) throws SQLException {
     // 1. Deletar registros filhas (Partidas e Estatísticas)
     try (Connection conn = ConexaoBD.obterConexao();
@@ -128,5 +99,7 @@ public class JogadorDAO {
              ps.executeUpdate();
         }
     }
+    // As partidas do jogador saíram do ranking em cache
+    ServicoRanking.getInstancia().invalidar();
 }
 }
\ No newline at end of file
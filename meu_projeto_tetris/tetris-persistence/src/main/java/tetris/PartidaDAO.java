@@ -0,0 +1,181 @@
+package tetris;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+//import java.sql.Statement;
+//import java.util.Objects;
+//import tetris.ConexaoBD;
+
+
+public class PartidaDAO implements RepositorioPartidas {
+
+    // Consulta de IDs já gravados em blocos (limite prático de parâmetros por IN)
+    private static final int IDS_POR_CONSULTA = 500;
+
+    /**
+     * Salva a partida e atualiza as estatísticas do jogador em uma única transação.
+     * Se o ID da partida já existir no banco (reenvio), nada é alterado.
+     * @param registro A partida encerrada a ser persistida.
+     * @throws SQLException Em caso de falha no banco de dados.
+     */
+    @Override
+    public void salvar(RegistroPartida registro) throws SQLException {
+        salvarLote(List.of(registro));
+    }
+
+    /**
+     * Salva várias partidas numa única transação, com lotes JDBC (addBatch):
+     * um upsert por jogador distinto, um INSERT por partida nova e um upsert
+     * de estatísticas por jogador, já agregado (quantidade de partidas e
+     * melhor pontuação do lote). Partidas cujo ID já está no banco, ou que
+     * se repetem no lote, são ignoradas. Tudo ou nada.
+     *
+     * A verificação de IDs é uma leitura sem trava; se outra gravação
+     * inserir o mesmo ID ao mesmo tempo, a chave primária rejeita o lote
+     * (rollback) e o reenvio o encontra já gravado.
+     *
+     * @return quantas partidas foram de fato inseridas.
+     */
+    @Override
+    public int salvarLote(List<RegistroPartida> registros) throws SQLException {
+        if (registros.isEmpty()) {
+            return 0;
+        }
+        Connection conn = null;
+        try {
+            conn = ConexaoBD.obterConexao();
+            conn.setAutoCommit(false); // Inicia a Transação
+
+            // 0. Idempotência: fora as partidas já gravadas numa tentativa anterior (e repetidas no lote)
+            Set<String> jaGravadas = buscarIdsExistentes(conn, registros);
+            Map<String, RegistroPartida> novas = new LinkedHashMap<>();
+            for (RegistroPartida registro : registros) {
+                String id = registro.getId().toString();
+                if (!jaGravadas.contains(id)) {
+                    novas.putIfAbsent(id, registro);
+                }
+            }
+            if (novas.isEmpty()) {
+                conn.commit();
+                return 0;
+            }
+
+            // Jogadores distintos (o nome mais recente vence) e estatísticas agregadas por jogador_id.
+            // Ordenados por ID: lotes concorrentes travam as linhas na mesma ordem
+            Map<String, Jogador> jogadores = new TreeMap<>();
+            Map<String, int[]> estatisticas = new TreeMap<>(); // {partidas, melhor pontuação}
+            for (RegistroPartida registro : novas.values()) {
+                String jogadorId = registro.getJogadorId().toString();
+                jogadores.put(jogadorId, registro.getJogador());
+                int[] agregado = estatisticas.computeIfAbsent(jogadorId, id -> new int[] { 0, Integer.MIN_VALUE });
+                agregado[0]++;
+                agregado[1] = Math.max(agregado[1], registro.getPontuacao());
+            }
+
+            // 1. Garantir que os jogadores existam no banco antes de inserir as partidas
+            new JogadorDAO().salvarLote(jogadores.values(), conn);
+
+            // 2. Salvar os dados das Partidas
+            inserirPartidas(conn, novas.values());
+
+            // 3. Atualizar Estatísticas dos Jogadores (melhor pontuação, total de partidas)
+            atualizarEstatisticasJogadores(conn, estatisticas);
+
+            conn.commit(); // Confirma a Transação 
+
+            // O ranking em cache pode ter mudado com estas partidas
+            ServicoRanking.getInstancia().invalidar();
+            return novas.size();
+        } catch (SQLException e) {
+        if (conn != null) {
+            try {
+                conn.rollback(); // Reverte em caso de erro
+            } catch (SQLException rollbackEx) { // <-- CAPTURA A EXCEÇÃO DE ROLLBACK AQUI
+                e.addSuppressed(rollbackEx);
+            }
+        }
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true); // Retorna ao modo padrão 
+                    conn.close();
+                } catch (SQLException closeEx) {
+                    // Logar ou ignorar erro de fechamento de conexão
+                }
+            }
+        }
+    }
+
+    private Set<String> buscarIdsExistentes(Connection conn, List<RegistroPartida> registros) throws SQLException {
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < registros.size(); inicio += IDS_POR_CONSULTA) {
+            List<RegistroPartida> bloco = registros.subList(inicio, Math.min(registros.size(), inicio + IDS_POR_CONSULTA));
+            StringBuilder sql = new StringBuilder("SELECT id FROM partidas WHERE id IN (");
+            for (int i = 0; i < bloco.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < bloco.size(); i++) {
+                    stmt.setString(i + 1, bloco.get(i).getId().toString());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existentes.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return existentes;
+    }
+
+    private void inserirPartidas(Connection conn, Collection<RegistroPartida> registros) throws SQLException {
+        String sql = "INSERT INTO partidas (id, jogador_id, pontuacao, linhas_eliminadas, nivel_alcancado, duracao_segundos) " +
+                     "VALUES (?, ?, ?, ?, ?, ?)"; 
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (RegistroPartida registro : registros) {
+                // O ID vem do registro (gerado no fim da partida): é a chave de idempotência
+                stmt.setString(1, registro.getId().toString());
+                stmt.setString(2, registro.getJogadorId().toString());
+                stmt.setInt(3, registro.getPontuacao());
+                stmt.setInt(4, registro.getTotalLinhas());
+                stmt.setInt(5, registro.getNivel());
+                stmt.setLong(6, registro.getDuracaoSegundos());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    // Um upsert por jogador, com o total e a melhor pontuação do lote inteiro.
+    // O UPDATE usa VALUES() em vez de parâmetros para o driver poder reescrever o lote num único INSERT
+    private void atualizarEstatisticasJogadores(Connection conn, Map<String, int[]> estatisticas) throws SQLException {
+        String sql = "INSERT INTO estatisticas_jogador (jogador_id, total_partidas, melhor_pontuacao) VALUES (?, ?, ?) " +
+                     "ON DUPLICATE KEY UPDATE total_partidas = total_partidas + VALUES(total_partidas), " +
+                     "melhor_pontuacao = GREATEST(melhor_pontuacao, VALUES(melhor_pontuacao))"; 
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<String, int[]> entrada : estatisticas.entrySet()) {
+                int partidas = entrada.getValue()[0];
+                int melhor = entrada.getValue()[1];
+                stmt.setString(1, entrada.getKey());
+                stmt.setInt(2, partidas);
+                stmt.setInt(3, melhor);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+}
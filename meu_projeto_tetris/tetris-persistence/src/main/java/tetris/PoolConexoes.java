@@ -0,0 +1,338 @@
+package tetris;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de conexões JDBC de tamanho limitado.
+ *
+ * obterConexao() entrega uma conexão física já aberta (ou abre uma, se
+ * ainda houver vaga) embrulhada num proxy: close() devolve a conexão ao
+ * pool em vez de fechá-la. Assim o custo de abrir a conexão (TCP,
+ * autenticação, negociação de sessão) e o cache de PreparedStatement do
+ * driver, que é por conexão física, sobrevivem entre as operações dos DAOs.
+ *
+ * - No máximo tamanhoMaximo conexões emprestadas ao mesmo tempo; quem
+ *   passar disso espera até tempoMaximoEsperaMs e recebe SQLTimeoutException.
+ * - Conexão parada há mais de VALIDAR_APOS_MS é testada (isValid) antes de
+ *   ser entregue; se não responder é descartada e outra é usada.
+ * - Conexões ociosas por mais de ociosidadeMaximaMs são fechadas por uma
+ *   thread de fundo.
+ * - Na devolução, transação pendente é desfeita e o autocommit é religado.
+ */
+public class PoolConexoes {
+
+    // Conexão usada há pouco não precisa de ida e volta ao banco para validar
+    private static final long VALIDAR_APOS_MS = 5_000;
+    private static final int TIMEOUT_VALIDACAO_S = 2;
+
+    /** Conexão física parada no pool e desde quando. */
+    private static final class Ociosa {
+        final Connection conexao;
+        final long desde;
+
+        Ociosa(Connection conexao, long desde) {
+            this.conexao = conexao;
+            this.desde = desde;
+        }
+    }
+
+    private final String url;
+    private final String usuario;
+    private final String senha;
+    private final int tamanhoMaximo;
+    private final long tempoMaximoEsperaMs;
+    private final long ociosidadeMaximaMs;
+
+    private final Semaphore vagas;
+    // Pilha (LIFO): a conexão devolvida por último é a mais "quente" e a primeira a sair
+    private final Deque<Ociosa> ociosas = new ArrayDeque<>();
+    private final ScheduledExecutorService limpeza;
+    private volatile boolean fechado = false;
+
+    // --- MÉTRICAS ---
+    private final AtomicInteger ativas = new AtomicInteger();
+    private final AtomicLong conexoesCriadas = new AtomicLong();
+    private final AtomicLong conexoesDescartadas = new AtomicLong();
+    private final AtomicLong emprestimos = new AtomicLong();
+    private final AtomicLong esgotamentos = new AtomicLong();
+    // Só esperas que terminaram com vaga (as que estouraram o prazo contam em esgotamentos)
+    private long nanosEsperando = 0;   // guardados pelo monitor do pool
+    private long esperasAtendidas = 0;
+    private long maiorEsperaNanos = 0;
+
+    public PoolConexoes(String url, String usuario, String senha, int tamanhoMaximo, long tempoMaximoEsperaMs,
+            long ociosidadeMaximaMs) {
+        if (tamanhoMaximo <= 0) {
+            throw new IllegalArgumentException("Tamanho do pool inválido: " + tamanhoMaximo);
+        }
+        this.url = url;
+        this.usuario = usuario;
+        this.senha = senha;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.tempoMaximoEsperaMs = tempoMaximoEsperaMs;
+        this.ociosidadeMaximaMs = ociosidadeMaximaMs;
+        this.vagas = new Semaphore(tamanhoMaximo, true);
+
+        this.limpeza = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread t = new Thread(tarefa, "pool-conexoes");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodo = Math.max(1_000, ociosidadeMaximaMs / 2);
+        limpeza.scheduleWithFixedDelay(this::removerOciosas, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Empresta uma conexão. Deve ser fechada (try-with-resources) para
+     * voltar ao pool.
+     * @throws SQLTimeoutException se o pool continuar esgotado após a espera máxima.
+     */
+    public Connection obterConexao() throws SQLException {
+        if (fechado) {
+            throw new SQLException("Pool de conexões encerrado");
+        }
+        long inicio = System.nanoTime();
+        try {
+            if (!vagas.tryAcquire(tempoMaximoEsperaMs, TimeUnit.MILLISECONDS)) {
+                esgotamentos.incrementAndGet();
+                throw new SQLTimeoutException("Pool de conexões esgotado (" + tamanhoMaximo + " em uso) após "
+                        + tempoMaximoEsperaMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido esperando conexão do pool", e);
+        }
+        long espera = System.nanoTime() - inicio;
+
+        try {
+            Connection fisica = retirarValida();
+            ativas.incrementAndGet();
+            emprestimos.incrementAndGet();
+            registrarEspera(espera);
+            return emprestar(fisica);
+        } catch (SQLException | RuntimeException e) {
+            vagas.release();
+            throw e;
+        }
+    }
+
+    // Ociosa válida mais recente ou, se não houver, uma conexão nova
+    private Connection retirarValida() throws SQLException {
+        while (true) {
+            Ociosa ociosa;
+            synchronized (ociosas) {
+                ociosa = ociosas.pollFirst();
+            }
+            if (ociosa == null) {
+                Connection nova = DriverManager.getConnection(url, usuario, senha);
+                conexoesCriadas.incrementAndGet();
+                return nova;
+            }
+            long parada = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ociosa.desde);
+            if (parada < VALIDAR_APOS_MS || validar(ociosa.conexao)) {
+                return ociosa.conexao;
+            }
+            descartar(ociosa.conexao);
+        }
+    }
+
+    private static boolean validar(Connection conexao) {
+        try {
+            return conexao.isValid(TIMEOUT_VALIDACAO_S);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection emprestar(Connection fisica) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new Emprestimo(fisica));
+    }
+
+    // Chamado uma única vez por empréstimo, no close() do proxy
+    private void devolver(Connection fisica) {
+        ativas.decrementAndGet();
+        try {
+            boolean reutilizavel = !fechado && !fisica.isClosed();
+            if (reutilizavel && !fisica.getAutoCommit()) {
+                fisica.rollback();
+                fisica.setAutoCommit(true);
+            }
+            if (reutilizavel) {
+                synchronized (ociosas) {
+                    ociosas.addFirst(new Ociosa(fisica, System.nanoTime()));
+                }
+            } else {
+                descartar(fisica);
+            }
+        } catch (SQLException e) {
+            descartar(fisica);
+        } finally {
+            vagas.release();
+        }
+    }
+
+    private void descartar(Connection fisica) {
+        conexoesDescartadas.incrementAndGet();
+        try {
+            fisica.close();
+        } catch (SQLException e) {
+            // A conexão já estava quebrada; nada a fazer
+        }
+    }
+
+    // Thread "pool-conexoes": fecha as conexões paradas há mais tempo que o limite
+    private void removerOciosas() {
+        long limite = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(ociosidadeMaximaMs);
+        Deque<Connection> vencidas = new ArrayDeque<>();
+        synchronized (ociosas) {
+            // As mais antigas ficam no fim da pilha
+            Iterator<Ociosa> it = ociosas.descendingIterator();
+            while (it.hasNext()) {
+                Ociosa ociosa = it.next();
+                if (ociosa.desde - limite > 0) {
+                    break;
+                }
+                it.remove();
+                vencidas.add(ociosa.conexao);
+            }
+        }
+        for (Connection conexao : vencidas) {
+            descartar(conexao);
+        }
+    }
+
+    private synchronized void registrarEspera(long nanos) {
+        nanosEsperando += nanos;
+        esperasAtendidas++;
+        if (nanos > maiorEsperaNanos) {
+            maiorEsperaNanos = nanos;
+        }
+    }
+
+    /**
+     * Fecha as conexões ociosas e para a limpeza. Conexões emprestadas são
+     * fechadas quando devolvidas.
+     */
+    public void fechar() {
+        fechado = true;
+        limpeza.shutdownNow();
+        Deque<Ociosa> restantes;
+        synchronized (ociosas) {
+            restantes = new ArrayDeque<>(ociosas);
+            ociosas.clear();
+        }
+        for (Ociosa ociosa : restantes) {
+            descartar(ociosa.conexao);
+        }
+    }
+
+    /**
+     * Proxy entregue aos DAOs: close() devolve ao pool (uma vez só) e
+     * qualquer uso depois disso falha, como numa conexão fechada.
+     */
+    private final class Emprestimo implements InvocationHandler {
+        private Connection fisica;
+
+        Emprestimo(Connection fisica) {
+            this.fisica = fisica;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "close":
+                    if (fisica != null) {
+                        Connection devolvida = fisica;
+                        fisica = null;
+                        devolver(devolvida);
+                    }
+                    return null;
+                case "isClosed":
+                    return fisica == null || fisica.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Conexão do pool (" + fisica + ")";
+                default:
+                    break;
+            }
+            if (fisica == null) {
+                throw new SQLException("Conexão já devolvida ao pool");
+            }
+            try {
+                return metodo.invoke(fisica, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // --- MÉTRICAS ---
+
+    /** Conexões emprestadas neste momento. */
+    public int getAtivas() {
+        return ativas.get();
+    }
+
+    /** Conexões abertas paradas no pool. */
+    public int getOciosas() {
+        synchronized (ociosas) {
+            return ociosas.size();
+        }
+    }
+
+    public int getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public long getConexoesCriadas() {
+        return conexoesCriadas.get();
+    }
+
+    public long getConexoesDescartadas() {
+        return conexoesDescartadas.get();
+    }
+
+    public long getEmprestimos() {
+        return emprestimos.get();
+    }
+
+    public long getEsgotamentos() {
+        return esgotamentos.get();
+    }
+
+    // Média sobre os empréstimos que deram certo (soma e contagem do mesmo conjunto)
+    public synchronized double getEsperaMediaMs() {
+        return esperasAtendidas == 0 ? 0 : nanosEsperando / 1e6 / esperasAtendidas;
+    }
+
+    public synchronized double getEsperaMaximaMs() {
+        return maiorEsperaNanos / 1e6;
+    }
+
+    public String resumo() {
+        return String.format("Pool de conexões: %d ativas, %d ociosas (máx. %d), %d empréstimos, "
+                + "%d conexões abertas, %d descartadas, espera média %.3f ms, máxima %.3f ms, %d esgotamentos",
+                getAtivas(), getOciosas(), tamanhoMaximo, getEmprestimos(), getConexoesCriadas(),
+                getConexoesDescartadas(), getEsperaMediaMs(), getEsperaMaximaMs(), getEsgotamentos());
+    }
+}
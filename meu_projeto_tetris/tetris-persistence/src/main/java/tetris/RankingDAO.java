@@ -11,7 +11,7 @@ import java.util.List;
 /**
  * DAO para consultas de ranking e placar.
  */
-public class RankingDAO {
+public class RankingDAO implements RepositorioRanking {
 
     // Classe interna para representar um registro do Ranking (DTO)
     public static class RegistroRanking {
@@ -29,6 +29,7 @@ public class RankingDAO {
     /**
      * Obtém o Top N de pontuações globais.
      */
+    @Override
     public List<RegistroRanking> obterTopPontuacoes(int limite) throws SQLException {
         String sql = "SELECT p.pontuacao, j.nome FROM partidas p " +
                      "JOIN jogadores j ON p.jogador_id = j.id " +
@@ -54,6 +55,7 @@ public class RankingDAO {
         }
         return ranking;
     }
+    @Override
     public List<RegistroRanking> obterRankingPorJogador(String jogadorId, int limite) throws SQLException {
         String sql = "SELECT p.pontuacao, j.nome FROM partidas p " +
                      "JOIN jogadores j ON p.jogador_id = j.id " +
@@ -0,0 +1,109 @@
+package tetris;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Resultado imutável de uma partida encerrada, pronto para persistir.
+ *
+ * O ID é gerado uma única vez, no fim da partida, e é a chave de
+ * idempotência: gravar o mesmo registro de novo (reenvio depois de falha,
+ * reprocessamento da caixa de saída) não duplica a partida nem conta duas
+ * vezes nas estatísticas do jogador.
+ */
+public final class RegistroPartida {
+
+    private final UUID id;
+    private final UUID jogadorId;
+    private final String nomeJogador;
+    private final int pontuacao;
+    private final int totalLinhas;
+    private final int nivel;
+    private final long duracaoSegundos;
+    private final long encerradaEmMs; // System.currentTimeMillis() no fim da partida
+
+    public RegistroPartida(UUID id, UUID jogadorId, String nomeJogador, int pontuacao, int totalLinhas, int nivel,
+            long duracaoSegundos, long encerradaEmMs) {
+        this.id = Objects.requireNonNull(id, "O ID da partida não pode ser nulo.");
+        this.jogadorId = Objects.requireNonNull(jogadorId, "O ID do jogador não pode ser nulo.");
+        this.nomeJogador = Objects.requireNonNull(nomeJogador, "O nome do jogador não pode ser nulo.");
+        this.pontuacao = pontuacao;
+        this.totalLinhas = totalLinhas;
+        this.nivel = nivel;
+        this.duracaoSegundos = duracaoSegundos;
+        this.encerradaEmMs = encerradaEmMs;
+    }
+
+    /**
+     * Retrato da partida agora, com um ID novo.
+     * @throws IllegalArgumentException se a partida não tiver jogador.
+     */
+    public static RegistroPartida de(Partida partida, long duracaoSegundos) {
+        Jogador jogador = partida.getJogador();
+        if (jogador == null) {
+            throw new IllegalArgumentException("Partida sem jogador não pode ser salva");
+        }
+        return new RegistroPartida(UUID.randomUUID(), jogador.getId(), jogador.getNome(), partida.getPontuacao(),
+                partida.getTotalLinhas(), partida.getNivel(), duracaoSegundos, System.currentTimeMillis());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getJogadorId() {
+        return jogadorId;
+    }
+
+    public String getNomeJogador() {
+        return nomeJogador;
+    }
+
+    public Jogador getJogador() {
+        return new Jogador(jogadorId, nomeJogador);
+    }
+
+    public int getPontuacao() {
+        return pontuacao;
+    }
+
+    public int getTotalLinhas() {
+        return totalLinhas;
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    public long getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    public long getEncerradaEmMs() {
+        return encerradaEmMs;
+    }
+
+    // --- FORMATO BINÁRIO (caixa de saída e armazenamento local) ---
+
+    void escrever(DataOutputStream saida) throws IOException {
+        saida.writeUTF(id.toString());
+        saida.writeUTF(jogadorId.toString());
+        saida.writeUTF(nomeJogador);
+        saida.writeInt(pontuacao);
+        saida.writeInt(totalLinhas);
+        saida.writeInt(nivel);
+        saida.writeLong(duracaoSegundos);
+        saida.writeLong(encerradaEmMs);
+    }
+
+    static RegistroPartida ler(DataInputStream entrada) throws IOException {
+        UUID id = UUID.fromString(entrada.readUTF());
+        UUID jogadorId = UUID.fromString(entrada.readUTF());
+        String nome = entrada.readUTF();
+        return new RegistroPartida(id, jogadorId, nome, entrada.readInt(), entrada.readInt(), entrada.readInt(),
+                entrada.readLong(), entrada.readLong());
+    }
+}
@@ -0,0 +1,21 @@
+package tetris;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Persistência de jogadores, independente do armazenamento (MySQL via
+ * JogadorDAO ou arquivo local via ArmazenamentoLocal). As falhas de
+ * qualquer implementação chegam como SQLException.
+ */
+public interface RepositorioJogadores {
+
+    /** Insere o jogador ou, se o ID já existir, atualiza o nome. */
+    void salvar(Jogador jogador) throws SQLException;
+
+    /** Jogador com o ID informado, ou null se não existir. */
+    Jogador buscarPorId(UUID id) throws SQLException;
+
+    /** Remove o jogador junto com suas partidas e estatísticas. */
+    void deletar(UUID id) throws SQLException;
+}
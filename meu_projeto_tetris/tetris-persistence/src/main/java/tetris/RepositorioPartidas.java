@@ -0,0 +1,37 @@
+package tetris;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Persistência de partidas encerradas, independente do armazenamento.
+ */
+public interface RepositorioPartidas {
+
+    /**
+     * Grava a partida, garante o jogador e atualiza as estatísticas dele
+     * (total de partidas, melhor pontuação), tudo ou nada. Idempotente pelo
+     * ID do registro: se a partida já foi gravada, nada muda.
+     */
+    void salvar(RegistroPartida registro) throws SQLException;
+
+    /**
+     * Grava várias partidas de uma vez, tudo ou nada, com as mesmas regras
+     * de salvar (partidas já gravadas ou repetidas no lote são ignoradas).
+     * O padrão grava uma a uma; os armazenamentos sobrescrevem para usar
+     * uma única transação.
+     * @return quantas partidas foram de fato gravadas, se o armazenamento souber
+     *         dizer; o padrão devolve o tamanho do lote.
+     */
+    default int salvarLote(List<RegistroPartida> registros) throws SQLException {
+        for (RegistroPartida registro : registros) {
+            salvar(registro);
+        }
+        return registros.size();
+    }
+
+    /** Grava a partida informada com um ID novo (ver salvar). */
+    default void salvarPartidaCompleta(Partida partida, long duracaoSegundos) throws SQLException {
+        salvar(RegistroPartida.de(partida, duracaoSegundos));
+    }
+}
@@ -0,0 +1,17 @@
+package tetris;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Consultas de ranking, independentes do armazenamento. Posições começam
+ * em 1, por pontuação decrescente.
+ */
+public interface RepositorioRanking {
+
+    /** Top N de pontuações de todas as partidas. */
+    List<RankingDAO.RegistroRanking> obterTopPontuacoes(int limite) throws SQLException;
+
+    /** Top N de pontuações das partidas de um jogador. */
+    List<RankingDAO.RegistroRanking> obterRankingPorJogador(String jogadorId, int limite) throws SQLException;
+}
@@ -0,0 +1,164 @@
+package tetris;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Escolhe o armazenamento usado pelo jogo no primeiro acesso:
+ *
+ * -Dtetris.persistencia=mysql  DAOs JDBC (ConexaoBD)
+ * -Dtetris.persistencia=local  ArmazenamentoLocal, sem servidor
+ * -Dtetris.persistencia=auto   (padrão) MySQL se responder; senão, local
+ *
+ * O arquivo local é -Dtetris.persistencia.arquivo (padrão tetris_dados.dat
+ * na pasta de trabalho). O primeiro acesso no modo auto pode abrir uma
+ * conexão: chame fora da thread do JavaFX. Depois dele, os acessos só leem
+ * a escolha atual e nunca esperam pelo banco.
+ *
+ * No modo auto, se o MySQL não respondeu (mas o driver existe), o local é
+ * provisório: uma thread de fundo ("sondagem-mysql") tenta de novo a cada
+ * -Dtetris.persistencia.sondagemMs (padrão 30 s) e, quando o banco
+ * responde, passa tudo para o MySQL. O que foi gravado no arquivo local
+ * nesse meio-tempo fica nele.
+ */
+public final class Repositorios {
+
+    private static final String PROPRIEDADE = "tetris.persistencia";
+    private static final String PROPRIEDADE_ARQUIVO = "tetris.persistencia.arquivo";
+    private static final String ARQUIVO_PADRAO = "tetris_dados.dat";
+    private static final long INTERVALO_SONDAGEM_MS = Long.getLong("tetris.persistencia.sondagemMs", 30_000L);
+
+    private enum Sondagem { DISPONIVEL, INDISPONIVEL, SEM_DRIVER }
+
+    /** Os três repositórios em uso, trocados juntos. */
+    private static final class Selecao {
+        final RepositorioJogadores jogadores;
+        final RepositorioPartidas partidas;
+        final RepositorioRanking ranking;
+        final String descricao;
+
+        Selecao(RepositorioJogadores jogadores, RepositorioPartidas partidas, RepositorioRanking ranking,
+                String descricao) {
+            this.jogadores = jogadores;
+            this.partidas = partidas;
+            this.ranking = ranking;
+            this.descricao = descricao;
+        }
+    }
+
+    private static volatile Selecao atual; // null até o primeiro acesso
+
+    private Repositorios() {
+    }
+
+    public static RepositorioJogadores jogadores() {
+        return selecao().jogadores;
+    }
+
+    public static RepositorioPartidas partidas() {
+        return selecao().partidas;
+    }
+
+    public static RepositorioRanking ranking() {
+        return selecao().ranking;
+    }
+
+    /** Armazenamento em uso, para logs ("MySQL" ou o caminho do arquivo local). */
+    public static String getDescricao() {
+        return selecao().descricao;
+    }
+
+    private static Selecao selecao() {
+        Selecao selecao = atual;
+        return selecao != null ? selecao : iniciar();
+    }
+
+    // Só o primeiro acesso passa por aqui; quem chegar junto espera a escolha
+    private static synchronized Selecao iniciar() {
+        if (atual != null) {
+            return atual;
+        }
+        String modo = System.getProperty(PROPRIEDADE, "auto").trim().toLowerCase();
+        switch (modo) {
+            case "mysql":
+                atual = mySQL();
+                break;
+            case "local":
+                atual = local();
+                break;
+            case "auto":
+                Sondagem sondagem = sondarMySQL(true);
+                if (sondagem == Sondagem.DISPONIVEL) {
+                    atual = mySQL();
+                } else {
+                    atual = local();
+                    if (sondagem == Sondagem.INDISPONIVEL) {
+                        iniciarSondagem();
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Valor inválido para -D" + PROPRIEDADE + ": " + modo
+                        + " (use mysql, local ou auto)");
+        }
+        System.out.println("Persistência: " + atual.descricao);
+        return atual;
+    }
+
+    private static Sondagem sondarMySQL(boolean registrar) {
+        try {
+            ConexaoBD.obterConexao().close();
+            return Sondagem.DISPONIVEL;
+        } catch (SQLException e) {
+            if (registrar) {
+                System.err.println("MySQL indisponível (" + e.getMessage() + "); usando armazenamento local e "
+                        + "tentando de novo a cada " + INTERVALO_SONDAGEM_MS + " ms.");
+            }
+            return Sondagem.INDISPONIVEL;
+        } catch (LinkageError e) {
+            // Driver fora do classpath (ConexaoBD não inicializa): não adianta tentar de novo
+            if (registrar) {
+                System.err.println("Driver MySQL ausente; usando armazenamento local.");
+            }
+            return Sondagem.SEM_DRIVER;
+        }
+    }
+
+    private static void iniciarSondagem() {
+        Thread sondagem = new Thread(Repositorios::sondarAteResponder, "sondagem-mysql");
+        sondagem.setDaemon(true);
+        sondagem.start();
+    }
+
+    // Thread "sondagem-mysql": troca o local provisório pelo MySQL assim que ele responder
+    private static void sondarAteResponder() {
+        try {
+            do {
+                Thread.sleep(INTERVALO_SONDAGEM_MS);
+            } while (sondarMySQL(false) != Sondagem.DISPONIVEL);
+        } catch (InterruptedException e) {
+            return;
+        }
+        atual = mySQL();
+        System.out.println("MySQL respondeu. Persistência: " + atual.descricao);
+        // O ranking em cache veio do arquivo local
+        ServicoRanking.getInstancia().invalidar();
+    }
+
+    private static Selecao mySQL() {
+        return new Selecao(new JogadorDAO(), new PartidaDAO(), new RankingDAO(), "MySQL");
+    }
+
+    private static Selecao local() {
+        Path arquivo = Path.of(System.getProperty(PROPRIEDADE_ARQUIVO, ARQUIVO_PADRAO));
+        boolean sincronizar = Boolean.getBoolean("tetris.persistencia.sincronizar");
+        try {
+            ArmazenamentoLocal local = new ArmazenamentoLocal(arquivo, sincronizar);
+            return new Selecao(local, local, local, "arquivo local " + arquivo.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o armazenamento local " + arquivo, e);
+        }
+    }
+}
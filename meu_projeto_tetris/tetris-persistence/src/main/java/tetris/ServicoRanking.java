@@ -0,0 +1,212 @@
+package tetris;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ranking global (Top N) em cache na memória, com validade (TTL).
+ *
+ * Quem desenha o placar lê o cache; a consulta ao banco só acontece quando o
+ * cache venceu ou foi invalidado (PartidaDAO chama invalidar() depois de
+ * confirmar uma partida), sempre numa única thread de fundo e nunca mais de
+ * uma ao mesmo tempo. Pedidos repetidos enquanto a consulta roda, ou dentro
+ * da validade, não geram consultas novas.
+ *
+ * Assinantes são avisados quando o Top N muda. Falhas de banco são avisadas
+ * uma vez por sequência: enquanto o banco continuar fora, as novas falhas
+ * não geram novo aviso; o próximo sucesso encerra a sequência.
+ */
+public class ServicoRanking {
+
+    /** Recebe as mudanças do ranking, na thread "ranking". */
+    public interface Assinante {
+        void rankingAtualizado(List<RankingDAO.RegistroRanking> top);
+
+        /** Primeira falha de uma sequência (o ranking em cache continua valendo). */
+        default void falhaAoAtualizar(SQLException erro) {
+        }
+    }
+
+    public static final int LIMITE_PADRAO = 10;
+    public static final long VALIDADE_PADRAO_MS = 30_000;
+
+    // Sem repositório fixo: usa o de Repositorios, escolhido na primeira consulta (thread "ranking")
+    private static final ServicoRanking INSTANCIA = new ServicoRanking(null, LIMITE_PADRAO, VALIDADE_PADRAO_MS);
+
+    private final RepositorioRanking repositorio;
+    private final int limite;
+    private final long validadeNanos;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread t = new Thread(tarefa, "ranking");
+        t.setDaemon(true);
+        return t;
+    });
+    private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean consultando = new AtomicBoolean(false);
+
+    private volatile List<RankingDAO.RegistroRanking> top = Collections.emptyList();
+    private volatile long carregadoEm;           // System.nanoTime() da última consulta bem-sucedida
+    private volatile boolean valido = false;     // false: nunca carregado ou invalidado
+    private volatile boolean invalidadoDuranteConsulta = false;
+    private boolean emFalha = false;             // só a thread "ranking" lê/escreve
+
+    // --- MÉTRICAS ---
+    private volatile long consultas = 0;
+    private volatile long pedidosAtendidosPeloCache = 0;
+    private volatile long falhas = 0;
+
+    /** Instância compartilhada pelo cliente (Top 10, validade de 30 s). */
+    public static ServicoRanking getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * @param repositorio origem do ranking; null para usar Repositorios.ranking()
+     */
+    public ServicoRanking(RepositorioRanking repositorio, int limite, long validadeMs) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite do ranking inválido: " + limite);
+        }
+        this.repositorio = repositorio;
+        this.limite = limite;
+        this.validadeNanos = TimeUnit.MILLISECONDS.toNanos(validadeMs);
+    }
+
+    /**
+     * Registra o assinante; se já houver ranking em cache ele é entregue
+     * logo em seguida (na thread "ranking"), e uma consulta é pedida se o
+     * cache estiver vencido.
+     */
+    public void assinar(Assinante assinante) {
+        assinantes.add(assinante);
+        if (valido) {
+            List<RankingDAO.RegistroRanking> atual = top;
+            executor.execute(() -> assinante.rankingAtualizado(atual));
+        }
+        solicitarAtualizacao();
+    }
+
+    public void cancelarAssinatura(Assinante assinante) {
+        assinantes.remove(assinante);
+    }
+
+    /**
+     * Pede uma consulta se o cache venceu ou foi invalidado. Retorna logo;
+     * o resultado chega aos assinantes.
+     */
+    public void solicitarAtualizacao() {
+        if (valido && System.nanoTime() - carregadoEm < validadeNanos) {
+            pedidosAtendidosPeloCache++;
+            return;
+        }
+        agendarConsulta();
+    }
+
+    /**
+     * Descarta o cache e agenda uma consulta. Chamado quando uma partida é
+     * confirmada no banco.
+     */
+    public void invalidar() {
+        valido = false;
+        invalidadoDuranteConsulta = true;
+        agendarConsulta();
+    }
+
+    /** Top N em cache (lista imutável, possivelmente vazia ou vencida). */
+    public List<RankingDAO.RegistroRanking> getTop() {
+        return top;
+    }
+
+    /** Primeiros n registros do cache. */
+    public List<RankingDAO.RegistroRanking> getTop(int n) {
+        List<RankingDAO.RegistroRanking> atual = top;
+        return atual.size() <= n ? atual : atual.subList(0, n);
+    }
+
+    private void agendarConsulta() {
+        // Uma consulta por vez; se já há uma na fila ou rodando, ela atende este pedido
+        if (consultando.compareAndSet(false, true)) {
+            executor.execute(this::consultar);
+        }
+    }
+
+    // Thread "ranking"
+    private void consultar() {
+        invalidadoDuranteConsulta = false;
+        try {
+            RepositorioRanking origem = repositorio != null ? repositorio : Repositorios.ranking();
+            List<RankingDAO.RegistroRanking> novo = Collections.unmodifiableList(origem.obterTopPontuacoes(limite));
+            consultas++;
+            boolean mudou = !iguais(top, novo);
+            top = novo;
+            carregadoEm = System.nanoTime();
+            valido = true;
+            emFalha = false;
+            if (mudou) {
+                for (Assinante assinante : assinantes) {
+                    assinante.rankingAtualizado(novo);
+                }
+            }
+        } catch (SQLException e) {
+            registrarFalha(e);
+        } catch (RuntimeException e) {
+            // Repositório que nem abre (configuração inválida, arquivo local ilegível): mesma regra do banco fora do ar
+            if (!emFalha) {
+                System.err.println("Erro inesperado ao carregar ranking: " + e.getMessage());
+            }
+            registrarFalha(new SQLException("Repositório de ranking indisponível: " + e.getMessage(), e));
+        } finally {
+            consultando.set(false);
+        }
+        // Uma partida confirmada durante a consulta pode não ter entrado no resultado
+        if (invalidadoDuranteConsulta) {
+            invalidar();
+        }
+    }
+
+    // Avisa só a primeira falha da sequência e não martela a origem fora do ar: a próxima tentativa espera a validade
+    private void registrarFalha(SQLException erro) {
+        falhas++;
+        if (!emFalha) {
+            emFalha = true;
+            for (Assinante assinante : assinantes) {
+                assinante.falhaAoAtualizar(erro);
+            }
+        }
+        carregadoEm = System.nanoTime();
+        valido = true;
+    }
+
+    private static boolean iguais(List<RankingDAO.RegistroRanking> a, List<RankingDAO.RegistroRanking> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            RankingDAO.RegistroRanking x = a.get(i);
+            RankingDAO.RegistroRanking y = b.get(i);
+            if (x.posicao != y.posicao || x.pontuacao != y.pontuacao || !Objects.equals(x.nomeJogador, y.nomeJogador)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getConsultas() {
+        return consultas;
+    }
+
+    public long getPedidosAtendidosPeloCache() {
+        return pedidosAtendidosPeloCache;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+}
@@ -0,0 +1,181 @@
+package tetris;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArquivoRegistrosTest {
+
+    private static final int MAGICO = 0x54455354; // "TEST"
+
+    @TempDir
+    Path pasta;
+
+    private static byte[] registro(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> lerTudo(ArquivoRegistros arquivo) throws IOException {
+        List<String> lidos = new ArrayList<>();
+        arquivo.ler(conteudo -> lidos.add(new String(conteudo, StandardCharsets.UTF_8)));
+        return lidos;
+    }
+
+    @Test
+    void releOsRegistrosNaOrdemDeGravacao() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertTrue(arquivo.isVazio());
+            arquivo.acrescentar(registro("um"));
+            arquivo.acrescentar(registro("dois"));
+            arquivo.acrescentar(registro("três"));
+            assertFalse(arquivo.isVazio());
+        }
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertEquals(List.of("um", "dois", "três"), lerTudo(arquivo));
+        }
+    }
+
+    @Test
+    void ultimoRegistroIncompletoEhDescartadoETruncado() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        long tamanhoIntegro;
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+            arquivo.acrescentar(registro("dois"));
+            tamanhoIntegro = arquivo.getTamanho();
+            arquivo.acrescentar(registro("registro que vai ser cortado"));
+        }
+        // Queda no meio da escrita: só parte do último registro chegou ao disco
+        try (RandomAccessFile bruto = new RandomAccessFile(caminho.toFile(), "rw")) {
+            bruto.setLength(bruto.length() - 5);
+        }
+
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertEquals(List.of("um", "dois"), lerTudo(arquivo));
+            assertEquals(tamanhoIntegro, arquivo.getTamanho());
+            assertEquals(tamanhoIntegro, Files.size(caminho));
+
+            // Sem o pedaço solto no fim, o próximo registro não fica preso atrás dele
+            arquivo.acrescentar(registro("depois da queda"));
+        }
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertEquals(List.of("um", "dois", "depois da queda"), lerTudo(arquivo));
+        }
+    }
+
+    @Test
+    void prefixoIncompletoNoFimEhDescartado() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        long tamanhoIntegro;
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+            tamanhoIntegro = arquivo.getTamanho();
+        }
+        try (RandomAccessFile bruto = new RandomAccessFile(caminho.toFile(), "rw")) {
+            bruto.seek(bruto.length());
+            bruto.write(new byte[] {0, 0, 0});
+        }
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertEquals(List.of("um"), lerTudo(arquivo));
+            assertEquals(tamanhoIntegro, arquivo.getTamanho());
+        }
+    }
+
+    @Test
+    void registroComCrcErradoEncerraALeitura() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        long inicioSegundo;
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+            inicioSegundo = arquivo.getTamanho();
+            arquivo.acrescentar(registro("dois"));
+        }
+        try (RandomAccessFile bruto = new RandomAccessFile(caminho.toFile(), "rw")) {
+            long posicao = inicioSegundo + 8; // primeiro byte do conteúdo
+            bruto.seek(posicao);
+            int original = bruto.read();
+            bruto.seek(posicao);
+            bruto.write(original ^ 0x01);
+        }
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            assertEquals(List.of("um"), lerTudo(arquivo));
+            assertEquals(inicioSegundo, arquivo.getTamanho());
+        }
+    }
+
+    @Test
+    void leitorPodeInterromperNoMeioSemApagarNada() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+            arquivo.acrescentar(registro("dois"));
+            arquivo.acrescentar(registro("três"));
+            long tamanho = arquivo.getTamanho();
+
+            // Recusa o segundo registro (íntegro, mas desconhecido para este leitor)
+            List<byte[]> lidos = new ArrayList<>();
+            assertFalse(arquivo.ler(conteudo -> {
+                lidos.add(conteudo);
+                return lidos.size() < 2;
+            }));
+            assertEquals(2, lidos.size());
+            assertArrayEquals(registro("um"), lidos.get(0));
+            assertEquals(tamanho, arquivo.getTamanho());
+            assertEquals(tamanho, Files.size(caminho));
+
+            assertTrue(arquivo.ler(conteudo -> true));
+            assertEquals(List.of("um", "dois", "três"), lerTudo(arquivo));
+        }
+    }
+
+    @Test
+    void rejeitaArquivoDeOutroFormato() throws IOException {
+        Path caminho = pasta.resolve("registros.dat");
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(caminho, MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+        }
+        assertThrows(IOException.class, () -> new ArquivoRegistros(caminho, MAGICO + 1, false));
+
+        Path lixo = pasta.resolve("lixo.dat");
+        Files.write(lixo, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> new ArquivoRegistros(lixo, MAGICO, false));
+    }
+
+    @Test
+    void rejeitaRegistroVazio() throws IOException {
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(pasta.resolve("registros.dat"), MAGICO, false)) {
+            assertThrows(IOException.class, () -> arquivo.acrescentar(new byte[0]));
+            assertTrue(arquivo.isVazio());
+        }
+    }
+
+    @Test
+    void esvaziarSeTamanhoSoEsvaziaSemAcrescimosNovos() throws IOException {
+        try (ArquivoRegistros arquivo = new ArquivoRegistros(pasta.resolve("registros.dat"), MAGICO, false)) {
+            arquivo.acrescentar(registro("um"));
+            long tamanhoLido = arquivo.getTamanho();
+            arquivo.acrescentar(registro("dois"));
+
+            assertFalse(arquivo.esvaziarSeTamanho(tamanhoLido));
+            assertEquals(List.of("um", "dois"), lerTudo(arquivo));
+
+            assertTrue(arquivo.esvaziarSeTamanho(arquivo.getTamanho()));
+            assertTrue(arquivo.isVazio());
+            assertEquals(List.of(), lerTudo(arquivo));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package tetris;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CaixaSaidaPartidasTest {
+
+    private static final UUID JOGADOR = UUID.randomUUID();
+    private static final long TAMANHO_CABECALHO = 8;
+
+    @TempDir
+    Path pasta;
+
+    private final List<CaixaSaidaPartidas> abertas = new ArrayList<>();
+
+    /**
+     * Banco em memória idempotente pelo ID (como os repositórios reais),
+     * que conta as entregas e pode simular quedas antes ou depois de gravar.
+     */
+    private static class BancoFalso implements RepositorioPartidas {
+        final Set<UUID> gravadas = ConcurrentHashMap.newKeySet();
+        final Map<UUID, Integer> entregas = new ConcurrentHashMap<>();
+        volatile boolean foraDoAr;
+        volatile int recusasAntesDeGravar;   // lotes recusados sem gravar nada
+        volatile int respostasPerdidas;      // lotes gravados cuja resposta não chega à caixa
+
+        @Override
+        public void salvar(RegistroPartida registro) {
+            entregas.merge(registro.getId(), 1, Integer::sum);
+            gravadas.add(registro.getId());
+        }
+
+        @Override
+        public int salvarLote(List<RegistroPartida> registros) throws SQLException {
+            if (foraDoAr) {
+                throw new SQLException("fora do ar");
+            }
+            if (recusasAntesDeGravar > 0) {
+                recusasAntesDeGravar--;
+                throw new SQLException("conexão recusada");
+            }
+            int total = RepositorioPartidas.super.salvarLote(registros);
+            if (respostasPerdidas > 0) {
+                respostasPerdidas--;
+                throw new SQLException("conexão perdida depois do commit");
+            }
+            return total;
+        }
+    }
+
+    @AfterEach
+    void fecharCaixas() {
+        for (CaixaSaidaPartidas caixa : abertas) {
+            caixa.parar(2_000);
+        }
+    }
+
+    private CaixaSaidaPartidas abrir(RepositorioPartidas banco) throws IOException {
+        CaixaSaidaPartidas caixa = new CaixaSaidaPartidas(pasta.resolve("pendentes.dat"),
+                pasta.resolve("confirmadas.dat"), banco, false);
+        abertas.add(caixa);
+        return caixa;
+    }
+
+    private static RegistroPartida partida(int pontuacao) {
+        return new RegistroPartida(UUID.randomUUID(), JOGADOR, "Ana", pontuacao, pontuacao / 100, 1, 60,
+                System.currentTimeMillis());
+    }
+
+    private static Set<UUID> ids(List<RegistroPartida> partidas) {
+        Set<UUID> ids = new HashSet<>();
+        for (RegistroPartida partida : partidas) {
+            ids.add(partida.getId());
+        }
+        return ids;
+    }
+
+    private static long tamanho(Path arquivo) {
+        try {
+            return Files.size(arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void esperarAte(BooleanSupplier condicao, String descricao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                fail("Tempo esgotado esperando: " + descricao);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void esperarArquivosZerados() throws InterruptedException {
+        esperarAte(() -> tamanho(pasta.resolve("pendentes.dat")) == TAMANHO_CABECALHO
+                && tamanho(pasta.resolve("confirmadas.dat")) == TAMANHO_CABECALHO, "compactação dos arquivos");
+    }
+
+    @Test
+    void entregaTodasEZeraOsArquivos() throws Exception {
+        BancoFalso banco = new BancoFalso();
+        CaixaSaidaPartidas caixa = abrir(banco);
+        List<RegistroPartida> partidas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RegistroPartida partida = partida(i * 10);
+            partidas.add(partida);
+            caixa.enfileirar(partida);
+        }
+
+        esperarAte(() -> caixa.getGravadas() == 100, "100 partidas gravadas");
+        assertEquals(ids(partidas), banco.gravadas);
+        assertEquals(0, caixa.getPendentes());
+        assertEquals(100, caixa.getEnfileiradas());
+        assertEquals(0, caixa.getFalhas());
+        esperarArquivosZerados();
+    }
+
+    @Test
+    void falhaDoBancoReenviaOLoteDepoisDaEspera() throws Exception {
+        BancoFalso banco = new BancoFalso();
+        banco.recusasAntesDeGravar = 1;
+        CaixaSaidaPartidas caixa = abrir(banco);
+        List<RegistroPartida> partidas = List.of(partida(100), partida(200), partida(300));
+        for (RegistroPartida partida : partidas) {
+            caixa.enfileirar(partida);
+        }
+
+        esperarAte(() -> caixa.getPendentes() == 0, "fila vazia depois da nova tentativa");
+        assertEquals(1, caixa.getFalhas());
+        assertEquals(3, caixa.getGravadas());
+        assertEquals(ids(partidas), banco.gravadas);
+        for (RegistroPartida partida : partidas) {
+            assertEquals(1, banco.entregas.get(partida.getId()));
+        }
+        esperarArquivosZerados();
+    }
+
+    @Test
+    void respostaPerdidaReenviaSemDuplicar() throws Exception {
+        BancoFalso banco = new BancoFalso();
+        banco.respostasPerdidas = 1;
+        CaixaSaidaPartidas caixa = abrir(banco);
+        List<RegistroPartida> partidas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RegistroPartida partida = partida(i);
+            partidas.add(partida);
+            caixa.enfileirar(partida);
+        }
+
+        esperarAte(() -> caixa.getPendentes() == 0, "fila vazia depois do reenvio");
+        assertEquals(ids(partidas), banco.gravadas);
+        assertEquals(10, caixa.getGravadas(), "o lote reenviado não conta duas vezes");
+        assertEquals(1, caixa.getFalhas());
+        int totalEntregas = banco.entregas.values().stream().mapToInt(Integer::intValue).sum();
+        assertTrue(totalEntregas > 10, "o primeiro lote foi entregue de novo");
+        esperarArquivosZerados();
+    }
+
+    @Test
+    void pendentesVoltamNaReabertura() throws Exception {
+        BancoFalso foraDoAr = new BancoFalso();
+        foraDoAr.foraDoAr = true;
+        CaixaSaidaPartidas primeira = abrir(foraDoAr);
+        List<RegistroPartida> partidas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            RegistroPartida partida = partida(i);
+            partidas.add(partida);
+            primeira.enfileirar(partida);
+        }
+        esperarAte(() -> primeira.getFalhas() >= 1, "primeira tentativa falhar");
+        primeira.parar(2_000);
+        assertTrue(foraDoAr.gravadas.isEmpty());
+
+        BancoFalso banco = new BancoFalso();
+        CaixaSaidaPartidas segunda = abrir(banco);
+        esperarAte(() -> segunda.getPendentes() == 0, "pendentes recuperadas enviadas");
+        assertEquals(ids(partidas), banco.gravadas);
+        assertEquals(5, segunda.getGravadas());
+        esperarArquivosZerados();
+    }
+
+    @Test
+    void registroNaoReconhecidoImpedeAAberturaSemApagarPendentes() throws Exception {
+        BancoFalso foraDoAr = new BancoFalso();
+        foraDoAr.foraDoAr = true;
+        CaixaSaidaPartidas primeira = abrir(foraDoAr);
+        primeira.enfileirar(partida(100));
+        primeira.enfileirar(partida(200));
+        primeira.parar(2_000);
+        // Um registro íntegro que esta versão não sabe ler, entre partidas pendentes
+        Path arquivoPendentes = pasta.resolve("pendentes.dat");
+        try (ArquivoRegistros diario = new ArquivoRegistros(arquivoPendentes, 0x54545050, false)) {
+            diario.acrescentar(new byte[] {1, 2, 3});
+        }
+        long tamanho = tamanho(arquivoPendentes);
+
+        BancoFalso banco = new BancoFalso();
+        assertThrows(IOException.class, () -> abrir(banco));
+        assertEquals(tamanho, tamanho(arquivoPendentes));
+        assertTrue(banco.gravadas.isEmpty());
+    }
+
+    @Test
+    void confirmadasNaoSaoReenviadasNaReabertura() throws Exception {
+        CountDownLatch loteEmAndamento = new CountDownLatch(1);
+        CountDownLatch liberarLote = new CountDownLatch(1);
+        Set<UUID> primeiroLote = ConcurrentHashMap.newKeySet();
+        // Aceita só o primeiro lote, segurando-o até a fila ganhar partidas novas; depois sai do ar
+        BancoFalso primeiroBanco = new BancoFalso() {
+            private boolean primeiro = true;
+
+            @Override
+            public int salvarLote(List<RegistroPartida> registros) throws SQLException {
+                if (!primeiro) {
+                    throw new SQLException("fora do ar");
+                }
+                primeiro = false;
+                primeiroLote.addAll(ids(registros));
+                loteEmAndamento.countDown();
+                try {
+                    liberarLote.await();
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+                return super.salvarLote(registros);
+            }
+        };
+        CaixaSaidaPartidas primeira = abrir(primeiroBanco);
+        List<RegistroPartida> partidas = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RegistroPartida partida = partida(i);
+            partidas.add(partida);
+            primeira.enfileirar(partida);
+        }
+        assertTrue(loteEmAndamento.await(15, TimeUnit.SECONDS));
+        for (int i = 3; i < 5; i++) {
+            RegistroPartida partida = partida(i);
+            partidas.add(partida);
+            primeira.enfileirar(partida);
+        }
+        liberarLote.countDown();
+        esperarAte(() -> primeira.getFalhas() >= 1, "lote seguinte falhar");
+        assertEquals(primeiroLote.size(), primeira.getGravadas());
+        primeira.parar(2_000);
+        // A fila não esvaziou, então o diário ainda guarda as partidas já confirmadas
+        assertFalse(tamanho(pasta.resolve("confirmadas.dat")) == TAMANHO_CABECALHO);
+
+        Set<UUID> restantes = ids(partidas);
+        restantes.removeAll(primeiroLote);
+        BancoFalso banco = new BancoFalso();
+        CaixaSaidaPartidas segunda = abrir(banco);
+        esperarAte(() -> segunda.getPendentes() == 0, "restantes enviadas");
+        assertEquals(restantes, banco.gravadas);
+        assertEquals(restantes.size(), segunda.getGravadas());
+        esperarArquivosZerados();
+    }
+}
@@ -0,0 +1,298 @@
+package tetris;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PoolConexoesTest {
+
+    private static final String PREFIXO_URL = "jdbc:tetris-teste:";
+
+    /** Conexão física falsa: só guarda o estado que o pool consulta e altera. */
+    private static final class ConexaoFalsa implements InvocationHandler {
+        volatile boolean fechada;
+        volatile boolean autoCommit = true;
+        volatile int rollbacks;
+        Connection proxy;
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "close":
+                    fechada = true;
+                    return null;
+                case "isClosed":
+                    return fechada;
+                case "isValid":
+                    return !fechada;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "rollback":
+                    rollbacks++;
+                    return null;
+                case "createStatement":
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexaoFalsa";
+                default:
+                    throw new SQLFeatureNotSupportedException(metodo.getName());
+            }
+        }
+    }
+
+    /** Banco falso de um teste: as conexões que abriu e se deve recusar novas. */
+    private static final class BancoFalso {
+        final List<ConexaoFalsa> conexoes = new CopyOnWriteArrayList<>();
+        volatile boolean foraDoAr;
+    }
+
+    private static final Map<String, BancoFalso> BANCOS = new ConcurrentHashMap<>();
+
+    /** Driver JDBC que atende PREFIXO_URL com conexões falsas do banco registrado na URL. */
+    private static final class DriverFalso implements Driver {
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            BancoFalso banco = acceptsURL(url) ? BANCOS.get(url) : null;
+            if (banco == null) {
+                return null;
+            }
+            if (banco.foraDoAr) {
+                throw new SQLException("fora do ar");
+            }
+            ConexaoFalsa conexao = new ConexaoFalsa();
+            conexao.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, conexao);
+            banco.conexoes.add(conexao);
+            return conexao.proxy;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url != null && url.startsWith(PREFIXO_URL);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    static {
+        try {
+            DriverManager.registerDriver(new DriverFalso());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private String url;
+    private BancoFalso banco;
+    private PoolConexoes pool;
+
+    @BeforeEach
+    void criarBanco() {
+        url = PREFIXO_URL + UUID.randomUUID();
+        banco = new BancoFalso();
+        BANCOS.put(url, banco);
+    }
+
+    @AfterEach
+    void fecharPool() {
+        if (pool != null) {
+            pool.fechar();
+        }
+        BANCOS.remove(url);
+    }
+
+    private PoolConexoes criarPool(int tamanho, long esperaMs, long ociosidadeMs) {
+        pool = new PoolConexoes(url, "usuario", "senha", tamanho, esperaMs, ociosidadeMs);
+        return pool;
+    }
+
+    private static void esperarAte(BooleanSupplier condicao, String descricao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                fail("Tempo esgotado esperando: " + descricao);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void closeDuasVezesDevolveAConexaoUmaVezSo() throws SQLException {
+        criarPool(1, 100, 60_000);
+        Connection conexao = pool.obterConexao();
+        conexao.close();
+        conexao.close();
+
+        assertEquals(0, pool.getAtivas());
+        assertEquals(1, pool.getOciosas());
+        // Uma devolução só liberou uma vaga: com a conexão emprestada de novo, o pool está esgotado
+        Connection outra = pool.obterConexao();
+        assertThrows(SQLTimeoutException.class, pool::obterConexao);
+        outra.close();
+        assertEquals(1, banco.conexoes.size());
+    }
+
+    @Test
+    void usoDepoisDoCloseFalhaEAFisicaContinuaNoPool() throws SQLException {
+        criarPool(1, 100, 60_000);
+        Connection conexao = pool.obterConexao();
+        conexao.close();
+
+        assertTrue(conexao.isClosed());
+        assertThrows(SQLException.class, conexao::createStatement);
+        assertThrows(SQLException.class, () -> conexao.setAutoCommit(false));
+        assertFalse(banco.conexoes.get(0).fechada);
+
+        // A física volta no próximo empréstimo, com outro proxy
+        try (Connection outra = pool.obterConexao()) {
+            assertFalse(outra.isClosed());
+            assertEquals(1, banco.conexoes.size());
+            assertEquals(2, pool.getEmprestimos());
+        }
+    }
+
+    @Test
+    void poolEsgotadoLancaTimeoutDepoisDaEspera() throws SQLException {
+        criarPool(1, 150, 60_000);
+        Connection emprestada = pool.obterConexao();
+
+        long inicio = System.nanoTime();
+        assertThrows(SQLTimeoutException.class, pool::obterConexao);
+        long esperaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        assertTrue(esperaMs >= 140, "desistiu cedo: " + esperaMs + " ms");
+        assertEquals(1, pool.getEsgotamentos());
+
+        emprestada.close();
+        try (Connection conexao = pool.obterConexao()) {
+            assertFalse(conexao.isClosed());
+        }
+    }
+
+    @Test
+    void falhaAoAbrirConexaoDevolveAVaga() throws SQLException {
+        criarPool(1, 100, 60_000);
+        banco.foraDoAr = true;
+        for (int i = 0; i < 3; i++) {
+            SQLException erro = assertThrows(SQLException.class, pool::obterConexao);
+            assertFalse(erro instanceof SQLTimeoutException, "a vaga da tentativa anterior vazou");
+        }
+        assertEquals(0, pool.getAtivas());
+
+        banco.foraDoAr = false;
+        try (Connection conexao = pool.obterConexao()) {
+            assertFalse(conexao.isClosed());
+        }
+        assertEquals(0, pool.getEsgotamentos());
+    }
+
+    @Test
+    void devolucaoDesfazTransacaoPendenteERestauraAutocommit() throws SQLException {
+        criarPool(1, 100, 60_000);
+        Connection conexao = pool.obterConexao();
+        conexao.setAutoCommit(false);
+        conexao.close();
+
+        ConexaoFalsa fisica = banco.conexoes.get(0);
+        assertEquals(1, fisica.rollbacks);
+        assertTrue(fisica.autoCommit);
+        assertFalse(fisica.fechada);
+
+        // Em autocommit não há o que desfazer
+        pool.obterConexao().close();
+        assertEquals(1, fisica.rollbacks);
+    }
+
+    @Test
+    void conexoesOciosasSaoFechadas() throws Exception {
+        criarPool(2, 100, 100);
+        Connection a = pool.obterConexao();
+        Connection b = pool.obterConexao();
+        a.close();
+        b.close();
+        assertEquals(2, pool.getOciosas());
+
+        esperarAte(() -> pool.getOciosas() == 0, "limpeza das ociosas");
+        for (ConexaoFalsa conexao : banco.conexoes) {
+            assertTrue(conexao.fechada);
+        }
+        assertEquals(2, pool.getConexoesDescartadas());
+
+        try (Connection nova = pool.obterConexao()) {
+            assertFalse(nova.isClosed());
+        }
+        assertEquals(3, pool.getConexoesCriadas());
+    }
+
+    @Test
+    void conexaoDevolvidaDepoisDoFecharEhFechada() throws SQLException {
+        criarPool(2, 100, 60_000);
+        Connection ociosa = pool.obterConexao();
+        Connection emprestada = pool.obterConexao();
+        ociosa.close();
+
+        pool.fechar();
+        assertTrue(banco.conexoes.get(0).fechada);
+        assertFalse(banco.conexoes.get(1).fechada);
+
+        emprestada.close();
+        assertTrue(banco.conexoes.get(1).fechada);
+        assertThrows(SQLException.class, pool::obterConexao);
+        assertEquals(0, pool.getAtivas());
+    }
+}
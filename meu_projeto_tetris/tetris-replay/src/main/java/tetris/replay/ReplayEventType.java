@@ -0,0 +1,11 @@
+package tetris.replay;
+
+public enum ReplayEventType {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    MOVE_DOWN,
+    ROTATE,
+    HARD_DROP,
+    // Controle: passa pela mesma fila de comandos do jogo, mas não é gravado no replay
+    TOGGLE_PAUSE
+}
\ No newline at end of file